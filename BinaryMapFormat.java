@@ -0,0 +1,122 @@
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * BinaryMapFormat class reads and writes maps in a compact binary format which loads much faster than the text format.
+ * The format is:
+ * magic number 'DODM' (4 bytes), format version (1 byte), map name (modified UTF-8 as written by DataOutputStream),
+ * gold required (int), row size (int), column size (int), then one Tile ordinal byte per cell, row by row.
+ * The tiles are loaded with a single bulk copy and counted eight at a time, see ByteGrid.countMapTiles
+ */
+public class BinaryMapFormat {
+    private static final int MAGIC = 0x444F444D;    // 'DODM' identifies a binary map file
+    private static final int VERSION = 1;
+    private static final Tile[] TILES = Tile.values();
+
+    /**
+     * Check if a file is a binary map file by reading its magic number
+     *
+     * @param filename the path to the file
+     * @return flag indicating whether the file is a binary map
+     */
+    public static boolean isBinaryMap(String filename) {
+        try (DataInputStream in = new DataInputStream(new FileInputStream(filename))) {
+            return in.readInt() == MAGIC;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Load a map from a binary map file, the tiles are read with a single bulk read
+     *
+     * @param filename the path to the binary map file
+     * @param gridType how the tiles are stored, a BYTE grid uses the bulk read array directly
+     * @return the loaded map
+     * @throws Exception exception if the file cannot be read or if the map format is invalid
+     */
+    public static Map load(String filename, GridType gridType) throws Exception {
+        final String mapName;
+        final int goldRequired;
+        final int rowSize;
+        final int columnSize;
+        final byte[] cells;
+        // catch exception if file cannot be read
+        try (FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.READ)) {
+            // the header is read through a stream, the tiles are then copied from a memory-mapping in one go
+            final DataInputStream in = new DataInputStream(Channels.newInputStream(channel));
+            if (in.readInt() != MAGIC) {
+                throw new Exception("not a binary map file: " + filename);
+            }
+            final int version = in.readUnsignedByte();
+            if (version != VERSION) {
+                throw new Exception("unsupported binary map version: " + version);
+            }
+            mapName = in.readUTF();
+            goldRequired = in.readInt();
+            rowSize = in.readInt();
+            columnSize = in.readInt();
+            if (rowSize < 0 || columnSize < 0 || (long) rowSize * columnSize > Integer.MAX_VALUE - 8) {
+                throw new Exception("invalid binary map dimensions: " + rowSize + " x " + columnSize);
+            }
+            cells = new byte[rowSize * columnSize];
+            final long tilesStart = channel.position();
+            if (channel.size() - tilesStart < cells.length) {
+                throw new Exception("binary map file is truncated: " + filename);
+            }
+            channel.map(FileChannel.MapMode.READ_ONLY, tilesStart, cells.length).get(cells);
+        } catch (IOException e) {
+            throw new Exception("Unable to open file at path: " + filename);
+        }
+
+        // count the tiles in one pass, this also checks every cell holds a map tile (not a player)
+        final int[] tileCounts = ByteGrid.countMapTiles(cells);
+
+        final Grid grid;
+        if (gridType == GridType.BYTE) {
+            grid = new ByteGrid(rowSize, columnSize, cells);
+        } else {
+            grid = gridType.create(rowSize, columnSize);
+            for (int i = 0; i < rowSize; i++) {
+                for (int j = 0; j < columnSize; j++) {
+                    grid.set(i, j, TILES[cells[i * columnSize + j]]);
+                }
+            }
+        }
+        return new Map(mapName, goldRequired, grid, tileCounts);
+    }
+
+    /**
+     * Save a map to a binary map file
+     *
+     * @param map      map to save
+     * @param filename the path to the binary map file
+     * @throws IOException exception if the file cannot be written
+     */
+    public static void save(Map map, String filename) throws IOException {
+        final Grid grid = map.getGrid();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(filename)))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeUTF(map.getMapName());
+            out.writeInt(map.getGoldRequired());
+            out.writeInt(grid.getRowSize());
+            out.writeInt(grid.getColumnSize());
+            final byte[] row = new byte[grid.getColumnSize()];
+            for (int i = 0; i < grid.getRowSize(); i++) {
+                for (int j = 0; j < row.length; j++) {
+                    row[j] = (byte) grid.get(i, j).ordinal();
+                }
+                out.write(row);
+            }
+        }
+    }
+}
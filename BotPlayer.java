@@ -1,15 +1,24 @@
-import java.util.LinkedList;
+import java.util.ArrayDeque;
+import java.util.Optional;
 import java.util.Queue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * BotPlayer class represents the computer controlled player, it extends the Player class
  */
 public class BotPlayer extends Player {
-    private Queue<String> queuedMoves;  // queue of moves for the bot to execute based on its goal
+    private final Queue<Command> queuedMoves;  // queue of moves for the bot to execute based on its goal
     private String currentGoal;         // the bot's current goal (e.g "GOLD", "EXIT" or "PLAYER")
     private Integer requiredGold;       // quantity of gold required to win
     private int moveCount;              // count of moves made so far
     private boolean traceEnabled;       // flag to control trace logging
+    private final RandomGenerator random;   // source of random moves
+    private final PathFinder pathFinder;    // plans the moves to a destination, reused for every LOOK
+    private final ExploredMap exploredMap;  // every tile seen so far, relative to the bot's start position
+    private int row;                    // row of the bot relative to its start position
+    private int column;                 // column of the bot relative to its start position
+    private int lookCount;              // count of LOOK commands handled so far
 
     /**
      * Constructor for BotPlayer class
@@ -18,13 +27,28 @@ public class BotPlayer extends Player {
      * @param tile     tile that represents the player on the map
      */
     BotPlayer(Position position, Tile tile) {
+        this(position, tile, RandomGenerator.getDefault());
+    }
+
+    /**
+     * Constructor for BotPlayer class with a supplied random number generator,
+     * seeding the generator makes the bot's random moves repeatable
+     *
+     * @param position initial position of the bot
+     * @param tile     tile that represents the player on the map
+     * @param random   random number generator used for random moves
+     */
+    BotPlayer(Position position, Tile tile, RandomGenerator random) {
         // initialise bot
         super(position, tile);
-        queuedMoves = new LinkedList<>();
+        queuedMoves = new ArrayDeque<>();
         currentGoal = null;
         requiredGold = null;
         moveCount = 0;
         traceEnabled = false;
+        this.random = random;
+        this.pathFinder = new PathFinder();
+        this.exploredMap = new ExploredMap();
     }
 
     /**
@@ -50,12 +74,12 @@ public class BotPlayer extends Player {
      *
      * @return command issued
      */
-    public String issueCommand() {
+    public Command issueCommand() {
         moveCount++;   // increment the move count for each command issued
 
         // first command is to call HELLO to find out gold required
         if (requiredGold == null) {
-            return "HELLO";
+            return Command.HELLO;
         }
 
         // execute queued moves based on earlier lookup and analysis
@@ -67,18 +91,20 @@ public class BotPlayer extends Player {
             // call PICKUP when no more moves and goal is GOLD
             if ("GOLD".equals(currentGoal)) {
                 currentGoal = null;
-                return "PICKUP";
+                // whether or not there was gold to pick up, there will be none left here
+                exploredMap.record(row, column, Tile.SPACE);
+                return Command.PICKUP;
             }
 
             // call QUIT when no more moves ang goal is EXIT
             if ("EXIT".equals(currentGoal)) {
                 currentGoal = null;
-                return "QUIT";
+                return Command.QUIT;
             }
         }
 
         // default is to call LOOK to analyse the surrounding tiles and create a new goal
-        return "LOOK";
+        return Command.LOOK;
     }
 
     /**
@@ -94,143 +120,143 @@ public class BotPlayer extends Player {
         // quantity of gold required is present after the ": " string
         requiredGold = Integer.valueOf(response.substring(response.indexOf(":") + 2));
         if (traceEnabled) {
-            System.out.println("Bot requires " + requiredGold + " gold");
+            getOutput().println("Bot requires " + requiredGold + " gold");
         }
     }
 
     /**
      * Handle the response to the LOOK command,
-     * analyse the returned map to set the bot's next moves
+     * merge the returned map into the explored map and use everything seen so far to set the bot's next moves
      *
      * @param localMap map returned by LOOK command,
-     *                 5 by 5 grid showing bot's surroundings with the bot at the centre
+     *                 square grid of any radius showing bot's surroundings with the bot at the centre
      */
     @Override
     public void handleLook(Tile[][] localMap) {
         queuedMoves.clear();
-        int stepsToGold = 0;
-        Position goldPosition = null;
+        currentGoal = null;
+        lookCount++;
+        exploredMap.merge(localMap, row, column);
+        final int centre = localMap.length / 2;
         Position playerPosition = null;
-        Position exitPosition = null;
 
-        // scan localMap for gold, player and exit
+        // scan localMap for the player, gold and exit are remembered in the explored map
         for (int i = 0; i < localMap.length; i++) {
             for (int j = 0; j < localMap[i].length; j++) {
-                if (localMap[i][j] == Tile.GOLD) {
-                    // focus on nearest gold
-                    int steps = Math.abs(i - 2) + Math.abs(j - 2);
-                    if (stepsToGold == 0 || steps < stepsToGold) {
-                        stepsToGold = steps;
-                        goldPosition = new Position(i, j);
-                        if (traceEnabled) {
-                            System.out.println("Bot sees Gold");
-                        }
-                    }
-                } else if (localMap[i][j] == Tile.PLAYER) {     // detect human player
-                    playerPosition = new Position(i, j);
-                    if (traceEnabled) {
-                        System.out.println("Bot sees Player");
-                    }
-                } else if (localMap[i][j] == Tile.EXIT) {     // detect the exit
-                    exitPosition = new Position(i, j);
+                if (localMap[i][j] == Tile.PLAYER) {     // detect human player
+                    playerPosition = new Position(row - centre + i, column - centre + j);
                     if (traceEnabled) {
-                        System.out.println("Bot sees Exit");
+                        getOutput().println("Bot sees Player");
                     }
+                } else if (traceEnabled && localMap[i][j] == Tile.GOLD) {
+                    getOutput().println("Bot sees Gold");
+                } else if (traceEnabled && localMap[i][j] == Tile.EXIT) {
+                    getOutput().println("Bot sees Exit");
                 }
             }
         }
 
-        Position destination = null;
-        // determine the bot's next goal and destination 
-        if (getGoldOwned() == requiredGold && exitPosition != null) {
-            // move to exit if we have enough gold
-            destination = exitPosition;
+        // determine the bot's next goal and the moves to reach it
+        final int startRow = exploredMap.toGridRow(row);
+        final int startColumn = exploredMap.toGridColumn(column);
+        if (getGoldOwned() >= requiredGold && exploredMap.getKnownCount(Tile.EXIT) > 0
+                && queueMoves(pathFinder.findPathToNearest(exploredMap, startRow, startColumn, Tile.EXIT))) {
+            // move to the nearest exit seen so far if we have enough gold
             currentGoal = "EXIT";
-        } else if (playerPosition != null) {
-            // else chase player if seen
-            destination = playerPosition;
+        } else if (playerPosition != null && queuePathCloser(startRow, startColumn, playerPosition)) {
+            // else chase player if seen and we can get closer
             currentGoal = "PLAYER";
-        } else if (stepsToGold != 0) {
-            // else move to gold if seen
-            destination = goldPosition;
+        } else if (getGoldOwned() < requiredGold && exploredMap.getKnownCount(Tile.GOLD) > 0
+                && queueMoves(pathFinder.findPathToNearest(exploredMap, startRow, startColumn, Tile.GOLD))) {
+            // else move to the nearest gold seen so far if we need more
             currentGoal = "GOLD";
-        } else {
-            // else make random move
-            queuedMoves.add(getRandomMove(localMap));
+        } else if (!queueMoves(pathFinder.findPathToFrontier(exploredMap, startRow, startColumn)) || queuedMoves.isEmpty()) {
+            // else explore the nearest unseen area, or make a random move if there is nothing left to explore,
+            // a bot walled in on all sides queues nothing and will LOOK again
+            getRandomMove(localMap, random).ifPresent(queuedMoves::add);
         }
+    }
 
-        if (destination != null) {
-            // determine moves needed to reach destination
-            queuedMoves = findPath(localMap, destination);
+    /**
+     * Handle the response to the MOVE command, a successful move updates the bot's position relative to its start
+     *
+     * @param direction direction of the move
+     * @param success   flag indicating whether the move succeeded
+     */
+    @Override
+    void handleMove(Direction direction, boolean success) {
+        if (success) {
+            row += direction.getRowStep();
+            column += direction.getColumnStep();
         }
     }
 
     /**
-     * Find the sequence of moves needed to reach a destination on the local map,
-     * it may not always be possible to reach the destination in which case we try to get as close as
-     * possible to the destination
+     * Queue the moves that take the bot to, or as close as possible to, a position
      *
-     * @param localMap    5x5 grid showing bot's surroundings with the bot at the centre
-     * @param destination the target position
-     * @return list of moves need to reach destination
+     * @param startRow    row of the bot in the explored map grid
+     * @param startColumn column of the bot in the explored map grid
+     * @param destination the target position relative to the bot's start position
+     * @return flag indicating whether any moves get the bot closer
      */
-    private static LinkedList<String> findPath(Tile[][] localMap, Position destination) {
-        LinkedList<String> moves = new LinkedList<>();
-        // player is initially at centre of 5x5 local map ie position [2][2]
-        final Position current = new Position(2, 2);
-        String move;
-        do {
-            move = findNextMove(localMap, current, destination);
-            if (move != null) {
-                moves.add(move);
-            }
-        } while (move != null);
-        // return list of moves required to reach the destination
-        return moves;
+    private boolean queuePathCloser(int startRow, int startColumn, Position destination) {
+        final int moves = pathFinder.findPath(exploredMap, startRow, startColumn,
+                exploredMap.toGridRow(destination.getRow()), exploredMap.toGridColumn(destination.getColumn()));
+        return moves > 0 && queueMoves(moves);
     }
 
     /**
-     * Find the next move that moves closer to the destination whilst avoiding walls
+     * Queue the moves of the path found by the path finder
      *
-     * @param localMap    5x5 grid showing bot's surroundings with the bot at the centre
-     * @param current     the bot's current position
-     * @param destination the target position
-     * @return command for the next valid move
+     * @param moves number of moves in the path, or -1 if no path was found
+     * @return flag indicating whether a path was found
      */
-    private static String findNextMove(Tile[][] localMap, Position current, Position destination) {
-        if (current.getRow() > destination.getRow() && Map.isPlayerMoveValid(localMap, current, Direction.NORTH)) {
-            current.decrementRow();
-            return "MOVE N";
-        } else if (current.getRow() < destination.getRow() && Map.isPlayerMoveValid(localMap, current, Direction.SOUTH)) {
-            current.incrementRow();
-            return "MOVE S";
-        } else if (current.getColumn() > destination.getColumn() && Map.isPlayerMoveValid(localMap, current, Direction.WEST)) {
-            current.decrementColumn();
-            return "MOVE W";
-        } else if (current.getColumn() < destination.getColumn() && Map.isPlayerMoveValid(localMap, current, Direction.EAST)) {
-            current.incrementColumn();
-            return "MOVE E";
+    private boolean queueMoves(int moves) {
+        for (int i = 0; i < moves; i++) {
+            queuedMoves.add(Command.move(pathFinder.getMove(i)));
         }
-        return null;
+        return moves >= 0;
     }
 
     /**
      * Get a random move that avoids walls
      *
-     * @param localMap 5x5 grid showing bot's surroundings with the bot at the centre
-     * @return command for a random move
+     * @param localMap square grid showing bot's surroundings with the bot at the centre
+     * @return command for a random move, or empty if the bot is walled in
+     */
+    public static Optional<Command> getRandomMove(Tile[][] localMap) {
+        return getRandomMove(localMap, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Get a random move that avoids walls using the supplied random number generator.
+     * The valid moves are found once and one of them is picked with a single draw, so every valid move is equally likely
+     *
+     * @param localMap square grid showing bot's surroundings with the bot at the centre
+     * @param random   random number generator
+     * @return command for a random move, or empty if the bot is walled in
+     */
+    public static Optional<Command> getRandomMove(Tile[][] localMap, RandomGenerator random) {
+        // player is at the centre of the local map, eg position [2][2] of a 5x5 map
+        final int centre = localMap.length / 2;
+        int validMoves = Map.getValidMoves(localMap, centre, centre);
+        if (validMoves == 0) {
+            return Optional.empty();
+        }
+        // clear the lowest set bits to leave the chosen move as the lowest
+        for (int skip = random.nextInt(Integer.bitCount(validMoves)); skip > 0; skip--) {
+            validMoves &= validMoves - 1;
+        }
+        return Optional.of(Command.move(Direction.fromOrdinal(Integer.numberOfTrailingZeros(validMoves))));
+    }
+
+    /**
+     * Get total number of LOOK commands the bot has handled
+     *
+     * @return number of LOOK commands
      */
-    public static String getRandomMove(Tile[][] localMap) {
-        // player is initially at centre of 5x5 local map ie position [2][2]
-        final Position current = new Position(2, 2);
-        Direction direction;
-        boolean isValid;
-        // retry until we have a valid move (ie one that does not move into a wall)
-        do {
-            direction = Direction.getRandomDirection();
-            isValid = Map.isPlayerMoveValid(localMap, current, direction);
-        } while (!isValid);
-        return "MOVE " + direction.getCharacter();
+    public int getLookCount() {
+        return lookCount;
     }
 
     /**
@@ -0,0 +1,146 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * ByteGrid class stores the grid in one flat byte array indexed by row * columnSize + column,
+ * each byte holds the ordinal of the Tile in that cell.
+ * This uses a quarter of the memory of a Tile[][] and reading a tile does not need to load a row array first
+ */
+public class ByteGrid implements Grid {
+    private static final Tile[] TILES = Tile.values();  // lookup from ordinal to Tile
+    // view of a byte array as longs, used to process eight cells at a time
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final long LOW_BITS = 0x0101010101010101L;       // lowest bit of each byte in a long
+    private static final long LOW_TWO_BITS = 0x0303030303030303L;   // lowest two bits of each byte in a long
+
+    // the map tiles must come first in Tile so their ordinals fit in two bits
+    static {
+        for (Tile tile : TILES) {
+            if (!tile.isPlayer() && tile.ordinal() > 3) {
+                throw new IllegalStateException("Map tiles must have the first four ordinals in Tile");
+            }
+        }
+    }
+
+    private final byte[] cells;     // tile ordinals, row by row
+    private final int rowSize;
+    private final int columnSize;
+
+    /**
+     * Constructor for ByteGrid, all cells initially hold the first Tile
+     *
+     * @param rowSize    number of rows
+     * @param columnSize number of columns
+     */
+    public ByteGrid(int rowSize, int columnSize) {
+        if ((long) rowSize * columnSize > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Grid too large: " + rowSize + " x " + columnSize);
+        }
+        this.rowSize = rowSize;
+        this.columnSize = columnSize;
+        this.cells = new byte[rowSize * columnSize];
+    }
+
+    /**
+     * Constructor for ByteGrid that uses the supplied array of tile ordinals as its storage,
+     * this lets the cells be filled by a single bulk read
+     *
+     * @param rowSize    number of rows
+     * @param columnSize number of columns
+     * @param cells      tile ordinals, row by row, used directly not copied
+     */
+    ByteGrid(int rowSize, int columnSize, byte[] cells) {
+        if (cells.length != (long) rowSize * columnSize) {
+            throw new IllegalArgumentException("Expected " + (long) rowSize * columnSize + " cells, found: " + cells.length);
+        }
+        this.rowSize = rowSize;
+        this.columnSize = columnSize;
+        this.cells = cells;
+    }
+
+    /**
+     * Copy constructor for ByteGrid
+     *
+     * @param other ByteGrid object to copy
+     */
+    private ByteGrid(ByteGrid other) {
+        this.rowSize = other.rowSize;
+        this.columnSize = other.columnSize;
+        this.cells = other.cells.clone();
+    }
+
+    @Override
+    public int getRowSize() {
+        return rowSize;
+    }
+
+    @Override
+    public int getColumnSize() {
+        return columnSize;
+    }
+
+    @Override
+    public Tile get(int row, int column) {
+        return TILES[cells[row * columnSize + column]];
+    }
+
+    @Override
+    public void set(int row, int column, Tile tile) {
+        cells[row * columnSize + column] = (byte) tile.ordinal();
+    }
+
+    @Override
+    public int[] countTiles() {
+        return countMapTiles(cells);
+    }
+
+    /**
+     * Count the number of each map Tile in an array of cells and check that every cell holds a map Tile.
+     * The map tiles EXIT, GOLD, SPACE and WALL have ordinals 0 to 3 so each cell only uses its two lowest bits,
+     * eight cells are read at a time as a long and the cells holding each ordinal are counted with bitCount
+     *
+     * @param cells tile ordinals
+     * @return number of each Tile, indexed by Tile ordinal
+     * @throws IllegalArgumentException if a cell does not hold a map Tile
+     */
+    static int[] countMapTiles(byte[] cells) {
+        long bitsUsed = 0;      // all the bits set in any cell, to detect values above 3
+        int ordinal1 = 0;
+        int ordinal2 = 0;
+        int ordinal3 = 0;
+        int i = 0;
+        for (; i <= cells.length - Long.BYTES; i += Long.BYTES) {
+            final long word = (long) LONGS.get(cells, i);
+            bitsUsed |= word;
+            final long bit0 = word & LOW_BITS;
+            final long bit1 = (word >>> 1) & LOW_BITS;
+            ordinal1 += Long.bitCount(bit0 & ~bit1);
+            ordinal2 += Long.bitCount(bit1 & ~bit0);
+            ordinal3 += Long.bitCount(bit0 & bit1);
+        }
+        final int[] counts = new int[TILES.length];
+        counts[0] = i - ordinal1 - ordinal2 - ordinal3;
+        for (; i < cells.length; i++) {
+            bitsUsed |= cells[i];
+            counts[cells[i] & 0x3]++;
+        }
+        if ((bitsUsed & ~LOW_TWO_BITS) != 0) {
+            throw new IllegalArgumentException("Unexpected tile in map");
+        }
+        counts[1] += ordinal1;
+        counts[2] += ordinal2;
+        counts[3] += ordinal3;
+        return counts;
+    }
+
+    @Override
+    public Grid copy() {
+        return new ByteGrid(this);
+    }
+
+    @Override
+    public long getFootprintBytes() {
+        return 16 + (long) cells.length;
+    }
+}
@@ -0,0 +1,37 @@
+/**
+ * CaptureOutputSink class keeps everything printed to it in memory, so a test or harness can check a game's output
+ */
+public class CaptureOutputSink implements OutputSink {
+    private final StringBuilder text = new StringBuilder();
+
+    @Override
+    public void print(String text) {
+        this.text.append(text);
+    }
+
+    @Override
+    public void print(char[] text) {
+        this.text.append(text);
+    }
+
+    @Override
+    public void println(String line) {
+        text.append(line).append(System.lineSeparator());
+    }
+
+    /**
+     * Get the text printed so far
+     *
+     * @return printed text, lines end with the system line separator
+     */
+    public String getText() {
+        return text.toString();
+    }
+
+    /**
+     * Discard the text printed so far
+     */
+    public void clear() {
+        text.setLength(0);
+    }
+}
@@ -0,0 +1,113 @@
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command enum represents the commands a player can issue on their turn.
+ * Players issue Command values and the game dispatches them without any string work,
+ * the text form of a command (eg "MOVE N") is only parsed when reading a human player's input
+ */
+public enum Command {
+    HELLO("HELLO"),
+    GOLD("GOLD"),
+    LOOK("LOOK"),
+    MOVE_NORTH("MOVE N", Direction.NORTH),
+    MOVE_SOUTH("MOVE S", Direction.SOUTH),
+    MOVE_EAST("MOVE E", Direction.EAST),
+    MOVE_WEST("MOVE W", Direction.WEST),
+    PICKUP("PICKUP"),
+    QUIT("QUIT"),
+    INVALID("INVALID");     // any text that is not a command
+
+    private final static Map<String, Command> mapping;  // map command text to their corresponding Command
+    private final static Command[] moves;               // MOVE commands indexed by Direction ordinal
+
+    // initialize the mapping of text to Command values and the MOVE command for each Direction
+    static {
+        mapping = new HashMap<>();
+        moves = new Command[Direction.values().length];
+        for (Command command : Command.values()) {
+            if (command != INVALID) {
+                mapping.put(command.getText(), command);
+            }
+            if (command.getDirection() != null) {
+                moves[command.getDirection().ordinal()] = command;
+            }
+        }
+    }
+
+    private final String text;
+    private final Direction direction;
+
+    /**
+     * Constructor for a MOVE Command
+     *
+     * @param text      text of the command as typed by a human player
+     * @param direction direction of the move
+     */
+    Command(String text, Direction direction) {
+        this.text = text;
+        this.direction = direction;
+    }
+
+    /**
+     * Constructor for Command
+     *
+     * @param text text of the command as typed by a human player
+     */
+    Command(String text) {
+        this(text, null);
+    }
+
+    /**
+     * Get text of the Command
+     *
+     * @return text of the command eg "MOVE N"
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Get direction of a MOVE Command
+     *
+     * @return direction of the move, or null if the command is not a MOVE
+     */
+    public Direction getDirection() {
+        return direction;
+    }
+
+    /**
+     * Get the MOVE Command for a direction
+     *
+     * @param direction direction of the move
+     * @return MOVE command
+     */
+    public static Command move(Direction direction) {
+        return moves[direction.ordinal()];
+    }
+
+    /**
+     * Parse the text of a command typed by a human player, the text is not case sensitive
+     *
+     * @param text command text eg "move n"
+     * @return Command for the text, or INVALID if the text is not a command
+     */
+    public static Command parse(String text) {
+        // commands are usually typed in upper case, only other text needs converting
+        Command command = mapping.get(text);
+        if (command == null) {
+            command = mapping.get(text.toUpperCase());
+        }
+        return command == null ? INVALID : command;
+    }
+
+    /**
+     * Text representation of the Command
+     *
+     * @return text of the command eg "MOVE N"
+     */
+    @Override
+    public String toString() {
+        return text;
+    }
+}
@@ -0,0 +1,118 @@
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * CommandStream class encodes a sequence of Commands compactly for a replay. Repeats of the same command are stored
+ * as one run, each run is written as the unsigned varint (run length << 4 | Command ordinal), so a run of up to
+ * 7 commands takes one byte and a run of up to 1023 takes two. A varint holds 7 bits per byte, lowest bits first,
+ * with the top bit set on every byte except the last
+ */
+public class CommandStream {
+    private static final int ORDINAL_BITS = 4;                      // bits of a run holding the Command ordinal
+    private static final int ORDINAL_MASK = (1 << ORDINAL_BITS) - 1;
+    private static final Command[] COMMANDS = Command.values();
+
+    private byte[] bytes = new byte[64];
+    private int length;             // number of bytes of finished runs
+    private Command runCommand;     // command of the run being counted, null before the first command
+    private int runLength;          // number of commands in the run being counted
+    private int count;              // number of commands added
+
+    /**
+     * Add a command to the end of the stream
+     *
+     * @param command command to add
+     */
+    public void add(Command command) {
+        if (command == runCommand) {
+            runLength++;
+        } else {
+            finishRun();
+            runCommand = command;
+            runLength = 1;
+        }
+        count++;
+    }
+
+    /**
+     * Get the number of commands added
+     *
+     * @return number of commands
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Get the encoded stream
+     *
+     * @return encoded bytes of all the commands added
+     */
+    public byte[] toBytes() {
+        finishRun();
+        return Arrays.copyOf(bytes, length);
+    }
+
+    /**
+     * Decode an encoded stream, a run is checked against the number of commands the stream may hold before it is
+     * expanded so a corrupt run length can not fill the memory
+     *
+     * @param encoded     bytes written by toBytes
+     * @param maxCommands number of commands the stream may hold, a player gives at most one command per turn
+     * @return the commands in the order they were added
+     * @throws IOException exception if the bytes are not a valid stream or hold more than maxCommands commands
+     */
+    public static List<Command> decode(byte[] encoded, int maxCommands) throws IOException {
+        final List<Command> commands = new ArrayList<>();
+        int index = 0;
+        while (index < encoded.length) {
+            // read one varint
+            long run = 0;
+            int shift = 0;
+            byte b;
+            do {
+                if (index == encoded.length || shift > 56) {
+                    throw new IOException("Invalid command stream: truncated run");
+                }
+                b = encoded[index++];
+                run |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            final int ordinal = (int) (run & ORDINAL_MASK);
+            final long runLength = run >>> ORDINAL_BITS;
+            if (ordinal >= COMMANDS.length || runLength < 1) {
+                throw new IOException("Invalid command stream: bad run " + run);
+            }
+            if (runLength > maxCommands - commands.size()) {
+                throw new IOException("Invalid command stream: more than " + maxCommands + " commands");
+            }
+            for (long i = 0; i < runLength; i++) {
+                commands.add(COMMANDS[ordinal]);
+            }
+        }
+        return commands;
+    }
+
+    /**
+     * Write the run being counted, if any, to the bytes
+     */
+    private void finishRun() {
+        if (runLength == 0) {
+            return;
+        }
+        long run = (long) runLength << ORDINAL_BITS | runCommand.ordinal();
+        // a long varint is at most 10 bytes
+        if (length + 10 > bytes.length) {
+            bytes = Arrays.copyOf(bytes, bytes.length * 2);
+        }
+        while ((run & ~0x7FL) != 0) {
+            bytes[length++] = (byte) (run & 0x7F | 0x80);
+            run >>>= 7;
+        }
+        bytes[length++] = (byte) run;
+        runLength = 0;
+        runCommand = null;
+    }
+}
@@ -1,18 +1,19 @@
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Direction class for the directions a player can move
  */
 public enum Direction {
-    NORTH('N'),
-    EAST('E'),
-    SOUTH('S'),
-    WEST('W');
+    NORTH('N', -1, 0),
+    EAST('E', 0, 1),
+    SOUTH('S', 1, 0),
+    WEST('W', 0, -1);
 
     private final static Map<Character, Direction> mapping; // link characters to Direction
+    private final static Direction[] directions = values();  // values() copies its array on every call
 
     // initialize the mapping of characters to Direction values
     static {
@@ -27,19 +28,49 @@ public enum Direction {
     }
 
     private final char character;
+    private final int rowStep;      // change in row of a move in this direction
+    private final int columnStep;   // change in column of a move in this direction
 
     /**
      * Constructor for Direction class
      *
-     * @param character representing direction eg N, E, S, W
+     * @param character  representing direction eg N, E, S, W
+     * @param rowStep    change in row of a move in this direction
+     * @param columnStep change in column of a move in this direction
      */
-    Direction(char character) {
+    Direction(char character, int rowStep, int columnStep) {
         this.character = character;
+        this.rowStep = rowStep;
+        this.columnStep = columnStep;
     }
 
+    /**
+     * Get a random Direction
+     *
+     * @return random Direction
+     */
     public static Direction getRandomDirection() {
-        final Random random = new Random();
-        return Arrays.asList(values()).get(random.nextInt(values().length));
+        return getRandomDirection(ThreadLocalRandom.current());
+    }
+
+    /**
+     * Get a random Direction using the supplied random number generator
+     *
+     * @param random random number generator
+     * @return random Direction
+     */
+    public static Direction getRandomDirection(RandomGenerator random) {
+        return directions[random.nextInt(directions.length)];
+    }
+
+    /**
+     * Get the Direction with an ordinal
+     *
+     * @param ordinal ordinal of the Direction
+     * @return Direction
+     */
+    public static Direction fromOrdinal(int ordinal) {
+        return directions[ordinal];
     }
 
     /**
@@ -51,6 +82,24 @@ public enum Direction {
         return character;
     }
 
+    /**
+     * Get the change in row of a move in this direction
+     *
+     * @return change in row, -1 for NORTH and 1 for SOUTH
+     */
+    public int getRowStep() {
+        return rowStep;
+    }
+
+    /**
+     * Get the change in column of a move in this direction
+     *
+     * @return change in column, -1 for WEST and 1 for EAST
+     */
+    public int getColumnStep() {
+        return columnStep;
+    }
+
     /**
      * Get Direction for given character direction
      *
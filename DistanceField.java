@@ -0,0 +1,273 @@
+import java.util.Arrays;
+
+/**
+ * DistanceField class holds the number of moves from every cell of a Grid to the nearest cell holding a target tile,
+ * found by a breadth first search started from all the target cells at once (a multi-source search).
+ * Walls can not be entered and every other tile can. Distances are read in O(1) and the field is updated incrementally
+ * when a target tile is added or removed, eg when gold is picked up, instead of searching the whole grid again.
+ * The buffers of an update are kept between updates, so an update does not allocate once they are large enough
+ */
+public class DistanceField {
+    public static final int UNREACHABLE = Integer.MAX_VALUE;    // distance of walls and cells that can not reach a target
+    // directions are tried in the same order as PathFinder
+    private static final int[] ROW_STEPS = {-1, 1, 0, 0};
+    private static final int[] COLUMN_STEPS = {0, 0, -1, 1};
+    private static final int MINIMUM_QUEUE = 16;    // initial size of the update queue
+
+    private final Tile target;
+    private final int rowSize;
+    private final int columnSize;
+    private final int[] distances;  // distance of each cell, row by row
+    private int[] queue = new int[MINIMUM_QUEUE];   // cells waiting to be expanded by an update
+    private long[] seeds = new long[0];             // distance and cell of each affected cell a removal reseeds
+    private int[] affectedUpdate = new int[0];      // number of the removal that last marked each cell affected
+    private int update;                             // number of the current removal, avoids clearing affectedUpdate
+
+    /**
+     * Constructor for DistanceField, searches the grid from every cell holding the target tile
+     *
+     * @param grid   grid to search
+     * @param target tile to measure the distance to
+     */
+    public DistanceField(Grid grid, Tile target) {
+        this.target = target;
+        this.rowSize = grid.getRowSize();
+        this.columnSize = grid.getColumnSize();
+        this.distances = new int[rowSize * columnSize];
+        Arrays.fill(distances, UNREACHABLE);
+
+        // every target cell is a source at distance 0, the queue holds cells in order of distance
+        queue = new int[Math.max(distances.length, MINIMUM_QUEUE)];
+        int tail = 0;
+        for (int row = 0; row < rowSize; row++) {
+            for (int column = 0; column < columnSize; column++) {
+                if (grid.get(row, column) == target) {
+                    final int cell = row * columnSize + column;
+                    distances[cell] = 0;
+                    queue[tail++] = cell;
+                }
+            }
+        }
+        spread(grid, 0, tail, false);
+        // the whole grid was queued, later updates only need a small queue
+        queue = new int[MINIMUM_QUEUE];
+    }
+
+    /**
+     * Copy constructor for DistanceField, the copy can be updated without changing the original and has its own buffers
+     *
+     * @param other DistanceField to copy
+     */
+    public DistanceField(DistanceField other) {
+        this.target = other.target;
+        this.rowSize = other.rowSize;
+        this.columnSize = other.columnSize;
+        this.distances = other.distances.clone();
+    }
+
+    /**
+     * Get the number of moves from a cell to the nearest target tile
+     *
+     * @param row    row of the cell
+     * @param column column of the cell
+     * @return distance, or UNREACHABLE for a wall, a cell outside the grid or a cell that can not reach a target
+     */
+    public int getDistance(int row, int column) {
+        if (row < 0 || row >= rowSize || column < 0 || column >= columnSize) {
+            return UNREACHABLE;
+        }
+        return distances[row * columnSize + column];
+    }
+
+    /**
+     * Get the tile the distances are measured to
+     *
+     * @return target tile
+     */
+    public Tile getTarget() {
+        return target;
+    }
+
+    /**
+     * Update the field after a cell has become a target, only the cells that are now nearer to it are visited
+     *
+     * @param grid   grid the field was built from, already holding the new target tile
+     * @param row    row of the new target cell
+     * @param column column of the new target cell
+     */
+    public void addSource(Grid grid, int row, int column) {
+        final int cell = row * columnSize + column;
+        if (distances[cell] == 0) {
+            return;
+        }
+        distances[cell] = 0;
+        queue[0] = cell;
+        spread(grid, 0, 1, false);
+    }
+
+    /**
+     * Update the field after a target cell has become another tile that can be entered, eg GOLD picked up.
+     * Only the cells whose nearest target was the removed one are searched again: first the cells that have lost
+     * every shortest route are found, then their distances are rebuilt from the unaffected cells around them
+     *
+     * @param grid   grid the field was built from, already holding the replacement tile
+     * @param row    row of the removed target cell
+     * @param column column of the removed target cell
+     */
+    public void removeSource(Grid grid, int row, int column) {
+        final int source = row * columnSize + column;
+        if (distances[source] != 0) {
+            return;
+        }
+
+        // find the affected cells in order of their old distance, a cell is affected when
+        // every neighbour one step nearer to a target is affected
+        nextUpdate();
+        int tail = 0;
+        affectedUpdate[source] = update;
+        queue[tail++] = source;
+        for (int head = 0; head < tail; head++) {
+            final int cell = queue[head];
+            final int cellRow = cell / columnSize;
+            final int cellColumn = cell % columnSize;
+            for (int i = 0; i < ROW_STEPS.length; i++) {
+                final int next = neighbour(cellRow, cellColumn, i);
+                if (next >= 0 && distances[next] == distances[cell] + 1 && !isAffected(next)
+                        && !hasUnaffectedParent(next)) {
+                    affectedUpdate[next] = update;
+                    if (tail == queue.length) {
+                        queue = Arrays.copyOf(queue, tail * 2);
+                    }
+                    queue[tail++] = next;
+                }
+            }
+        }
+
+        // an affected cell starts at one more than its nearest unaffected neighbour, or unreachable if it has none
+        if (seeds.length < tail) {
+            seeds = new long[Math.max(tail, seeds.length * 2)];
+        }
+        int seedCount = 0;
+        for (int i = 0; i < tail; i++) {
+            distances[queue[i]] = UNREACHABLE;
+        }
+        for (int i = 0; i < tail; i++) {
+            final int cell = queue[i];
+            int best = UNREACHABLE;
+            for (int j = 0; j < ROW_STEPS.length; j++) {
+                final int next = neighbour(cell / columnSize, cell % columnSize, j);
+                if (next >= 0 && distances[next] != UNREACHABLE && !isAffected(next)) {
+                    best = Math.min(best, distances[next] + 1);
+                }
+            }
+            if (best != UNREACHABLE) {
+                distances[cell] = best;
+                seeds[seedCount++] = (long) best << 32 | cell;
+            }
+        }
+
+        // spread the seeds in order of distance so each affected cell ends with its shortest distance,
+        // the affected cells have all been reseeded so the queue is free to hold them
+        Arrays.sort(seeds, 0, seedCount);
+        for (int i = 0; i < seedCount; i++) {
+            queue[i] = (int) seeds[i];
+        }
+        spread(grid, 0, seedCount, true);
+    }
+
+    /**
+     * Start a new removal, the cells marked affected by earlier removals are forgotten without clearing the marks
+     */
+    private void nextUpdate() {
+        if (affectedUpdate.length < distances.length) {
+            affectedUpdate = new int[distances.length];
+            update = 0;
+        }
+        if (++update == Integer.MAX_VALUE) {
+            Arrays.fill(affectedUpdate, 0);
+            update = 1;
+        }
+    }
+
+    /**
+     * Check if a cell has been marked affected by the current removal
+     *
+     * @param cell cell to check
+     * @return flag indicating whether the cell is affected
+     */
+    private boolean isAffected(int cell) {
+        return affectedUpdate[cell] == update;
+    }
+
+    /**
+     * Check if a cell has a neighbour one step nearer to a target that is not affected by a removal
+     *
+     * @param cell cell to check
+     * @return flag indicating whether the cell keeps a shortest route through an unaffected neighbour
+     */
+    private boolean hasUnaffectedParent(int cell) {
+        final int row = cell / columnSize;
+        final int column = cell % columnSize;
+        for (int i = 0; i < ROW_STEPS.length; i++) {
+            final int next = neighbour(row, column, i);
+            if (next >= 0 && distances[next] == distances[cell] - 1 && !isAffected(next)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Breadth first search from the queued cells, lowering the distance of every cell that can be reached in fewer moves.
+     * The queued cells must be in order of distance, cells reached are appended to the queue (it grows if it is full)
+     *
+     * @param grid         grid holding the walls
+     * @param head         index in the queue of the first cell waiting
+     * @param tail         index in the queue after the last cell waiting
+     * @param affectedOnly flag to only change the cells affected by the current removal
+     */
+    private void spread(Grid grid, int head, int tail, boolean affectedOnly) {
+        while (head < tail) {
+            final int cell = queue[head++];
+            final int row = cell / columnSize;
+            final int column = cell % columnSize;
+            final int nextDistance = distances[cell] + 1;
+            for (int i = 0; i < ROW_STEPS.length; i++) {
+                final int next = neighbour(row, column, i);
+                if (next < 0 || distances[next] <= nextDistance || (affectedOnly && !isAffected(next))
+                        || grid.get(row + ROW_STEPS[i], column + COLUMN_STEPS[i]) == Tile.WALL) {
+                    continue;
+                }
+                distances[next] = nextDistance;
+                if (tail == queue.length) {
+                    // the cells before head are finished with, reuse their space before growing
+                    if (head > queue.length / 2) {
+                        System.arraycopy(queue, head, queue, 0, tail - head);
+                        tail -= head;
+                        head = 0;
+                    } else {
+                        queue = Arrays.copyOf(queue, queue.length * 2);
+                    }
+                }
+                queue[tail++] = next;
+            }
+        }
+    }
+
+    /**
+     * Get the neighbouring cell in one of the four directions
+     *
+     * @param row       row of the cell
+     * @param column    column of the cell
+     * @param direction index of the direction in ROW_STEPS and COLUMN_STEPS
+     * @return index of the neighbouring cell, or -1 if it is outside the grid
+     */
+    private int neighbour(int row, int column, int direction) {
+        final int nextRow = row + ROW_STEPS[direction];
+        final int nextColumn = column + COLUMN_STEPS[direction];
+        if (nextRow < 0 || nextRow >= rowSize || nextColumn < 0 || nextColumn >= columnSize) {
+            return -1;
+        }
+        return nextRow * columnSize + nextColumn;
+    }
+}
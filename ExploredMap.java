@@ -0,0 +1,220 @@
+import java.util.Arrays;
+
+/**
+ * ExploredMap class is the bot's memory of the tiles it has seen with LOOK.
+ * The bot does not know where it is on the map so tiles are recorded relative to its start position,
+ * which is row 0 column 0 of the explored frame, rows and columns of the frame may be negative.
+ * The grid grows as new areas are seen, tiles that have not been seen are unknown and returned as null.
+ * As a Grid it uses its own zero based rows and columns, convert with toGridRow and toGridColumn
+ */
+public class ExploredMap implements Grid {
+    private static final Tile[] TILES = Tile.values();  // lookup from ordinal to Tile
+    private static final byte UNKNOWN = 0;              // cells hold Tile ordinal + 1, 0 for unknown
+    private static final int MINIMUM_GROWTH = 16;       // minimum rows or columns added when the grid grows
+
+    private byte[] cells = new byte[0];     // known tiles, row by row
+    private int rowSize;
+    private int columnSize;
+    private int firstRow;                   // row of the explored frame held in grid row 0
+    private int firstColumn;                // column of the explored frame held in grid column 0
+    private final int[] knownCounts = new int[TILES.length];   // number of each known Tile, indexed by ordinal
+
+    /**
+     * Merge a local map returned by LOOK into the explored map.
+     * Player tiles hide the tile underneath so they are recorded as SPACE unless the tile is already known
+     *
+     * @param localMap square grid with the bot at the centre, null cells were not seen
+     * @param row      row of the bot in the explored frame
+     * @param column   column of the bot in the explored frame
+     */
+    public void merge(Tile[][] localMap, int row, int column) {
+        final int radius = localMap.length / 2;
+        ensureCovers(row - radius, column - radius, row + radius, column + radius);
+        for (int i = 0; i < localMap.length; i++) {
+            for (int j = 0; j < localMap[i].length; j++) {
+                final int index = (row - radius + i - firstRow) * columnSize + (column - radius + j - firstColumn);
+                final Tile tile = localMap[i][j];
+                if (tile == null) {
+                    // outside the view shape, nothing is learnt about the cell
+                    continue;
+                }
+                if (!tile.isPlayer()) {
+                    write(index, tile);
+                } else if (cells[index] == UNKNOWN) {
+                    // a player can only stand on a tile that can be entered
+                    write(index, Tile.SPACE);
+                }
+            }
+        }
+    }
+
+    /**
+     * Record a tile at a position of the explored frame, eg SPACE after gold is picked up
+     *
+     * @param row    row in the explored frame
+     * @param column column in the explored frame
+     * @param tile   tile to record
+     */
+    public void record(int row, int column, Tile tile) {
+        ensureCovers(row, column, row, column);
+        set(toGridRow(row), toGridColumn(column), tile);
+    }
+
+    /**
+     * Get the number of cells known to hold a tile, eg to check if any exit has been seen before searching for one
+     *
+     * @param tile tile to count
+     * @return number of cells known to hold the tile
+     */
+    public int getKnownCount(Tile tile) {
+        return knownCounts[tile.ordinal()];
+    }
+
+    /**
+     * Convert a row of the explored frame to a row of this grid
+     *
+     * @param row row in the explored frame
+     * @return row in this grid
+     */
+    public int toGridRow(int row) {
+        return row - firstRow;
+    }
+
+    /**
+     * Convert a column of the explored frame to a column of this grid
+     *
+     * @param column column in the explored frame
+     * @return column in this grid
+     */
+    public int toGridColumn(int column) {
+        return column - firstColumn;
+    }
+
+    /**
+     * Check if a cell of this grid can be entered and is next to a cell that has not been seen,
+     * moving to such a cell and calling LOOK will reveal new tiles
+     *
+     * @param row    row in this grid
+     * @param column column in this grid
+     * @return flag indicating whether the cell is on the frontier of the explored area
+     */
+    public boolean isFrontier(int row, int column) {
+        if (!PathFinder.isPassable(get(row, column))) {
+            return false;
+        }
+        return isUnknown(row - 1, column) || isUnknown(row + 1, column)
+                || isUnknown(row, column - 1) || isUnknown(row, column + 1);
+    }
+
+    /**
+     * Check if a cell has not been seen, cells outside this grid have not been seen
+     *
+     * @param row    row in this grid
+     * @param column column in this grid
+     * @return flag indicating whether the cell is unknown
+     */
+    private boolean isUnknown(int row, int column) {
+        return row < 0 || row >= rowSize || column < 0 || column >= columnSize
+                || cells[row * columnSize + column] == UNKNOWN;
+    }
+
+    /**
+     * Write a tile to a cell, keeping the known tile counts up to date
+     *
+     * @param index index of the cell
+     * @param tile  tile to write, or null for unknown
+     */
+    private void write(int index, Tile tile) {
+        final byte previous = cells[index];
+        if (previous != UNKNOWN) {
+            knownCounts[previous - 1]--;
+        }
+        if (tile == null) {
+            cells[index] = UNKNOWN;
+        } else {
+            cells[index] = (byte) (tile.ordinal() + 1);
+            knownCounts[tile.ordinal()]++;
+        }
+    }
+
+    /**
+     * Grow the grid if needed so it covers the given rectangle of the explored frame,
+     * the grid grows by at least its current size so repeated growth is cheap
+     *
+     * @param top    first row in the explored frame
+     * @param left   first column in the explored frame
+     * @param bottom last row in the explored frame
+     * @param right  last column in the explored frame
+     */
+    private void ensureCovers(int top, int left, int bottom, int right) {
+        if (rowSize > 0 && top >= firstRow && bottom < firstRow + rowSize
+                && left >= firstColumn && right < firstColumn + columnSize) {
+            return;
+        }
+        final int rowGrowth = Math.max(rowSize, MINIMUM_GROWTH);
+        final int columnGrowth = Math.max(columnSize, MINIMUM_GROWTH);
+        // extend only the sides that do not cover the rectangle
+        final int lastRow = firstRow + rowSize - 1;
+        final int lastColumn = firstColumn + columnSize - 1;
+        final int newFirstRow = rowSize == 0 || top < firstRow ? top - rowGrowth : firstRow;
+        final int newFirstColumn = columnSize == 0 || left < firstColumn ? left - columnGrowth : firstColumn;
+        final int newLastRow = rowSize == 0 || bottom > lastRow ? bottom + rowGrowth : lastRow;
+        final int newLastColumn = columnSize == 0 || right > lastColumn ? right + columnGrowth : lastColumn;
+        final int newRowSize = newLastRow - newFirstRow + 1;
+        final int newColumnSize = newLastColumn - newFirstColumn + 1;
+
+        final byte[] newCells = new byte[newRowSize * newColumnSize];
+        for (int i = 0; i < rowSize; i++) {
+            System.arraycopy(cells, i * columnSize, newCells,
+                    (firstRow + i - newFirstRow) * newColumnSize + (firstColumn - newFirstColumn), columnSize);
+        }
+        cells = newCells;
+        rowSize = newRowSize;
+        columnSize = newColumnSize;
+        firstRow = newFirstRow;
+        firstColumn = newFirstColumn;
+    }
+
+    @Override
+    public int getRowSize() {
+        return rowSize;
+    }
+
+    @Override
+    public int getColumnSize() {
+        return columnSize;
+    }
+
+    @Override
+    public Tile get(int row, int column) {
+        final byte cell = cells[row * columnSize + column];
+        return cell == UNKNOWN ? null : TILES[cell - 1];
+    }
+
+    @Override
+    public void set(int row, int column, Tile tile) {
+        write(row * columnSize + column, tile);
+    }
+
+    @Override
+    public int[] countTiles() {
+        return knownCounts.clone();
+    }
+
+    @Override
+    public Grid copy() {
+        final ExploredMap copy = new ExploredMap();
+        copy.cells = Arrays.copyOf(cells, cells.length);
+        copy.rowSize = rowSize;
+        copy.columnSize = columnSize;
+        copy.firstRow = firstRow;
+        copy.firstColumn = firstColumn;
+        System.arraycopy(knownCounts, 0, copy.knownCounts, 0, knownCounts.length);
+        return copy;
+    }
+
+    @Override
+    public long getFootprintBytes() {
+        return 16 + (long) cells.length;
+    }
+}
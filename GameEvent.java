@@ -0,0 +1,111 @@
+/**
+ * GameEvent class describes something that happened in a game: what it was, in which turn, which player it happened to
+ * and where that player was afterwards. A game reuses one GameEvent for all its events, so a listener must not keep it,
+ * a listener that needs an event later keeps a copy
+ */
+public final class GameEvent {
+    private GameEventType type;
+    private int turn;           // turn of the game, counting from 1
+    private Tile player;        // tile of the player the event happened to, PLAYER or BOT
+    private long position;      // packed position of the player after the event
+    private boolean success;    // result of the command, true for events that can not fail
+
+    /**
+     * Constructor for an empty GameEvent, the game fills it in before each event is reported
+     */
+    GameEvent() {
+    }
+
+    /**
+     * Fill in the event
+     *
+     * @param type     kind of event
+     * @param turn     turn of the game
+     * @param player   tile of the player the event happened to
+     * @param position packed position of the player after the event
+     * @param success  result of the command
+     * @return this event
+     */
+    GameEvent set(GameEventType type, int turn, Tile player, long position, boolean success) {
+        this.type = type;
+        this.turn = turn;
+        this.player = player;
+        this.position = position;
+        this.success = success;
+        return this;
+    }
+
+    /**
+     * Create a copy of the event that can be kept after the listener returns
+     *
+     * @return copy of the event
+     */
+    public GameEvent copy() {
+        return new GameEvent().set(type, turn, player, position, success);
+    }
+
+    /**
+     * Get the kind of event
+     *
+     * @return event type
+     */
+    public GameEventType getType() {
+        return type;
+    }
+
+    /**
+     * Get the turn the event happened in
+     *
+     * @return turn, counting from 1
+     */
+    public int getTurn() {
+        return turn;
+    }
+
+    /**
+     * Get the player the event happened to
+     *
+     * @return PLAYER for the human player or BOT for the bot
+     */
+    public Tile getPlayer() {
+        return player;
+    }
+
+    /**
+     * Get the position of the player after the event, packed as by Position.pack
+     *
+     * @return packed position
+     */
+    public long getPackedPosition() {
+        return position;
+    }
+
+    /**
+     * Get the position of the player after the event
+     *
+     * @return new Position
+     */
+    public Position getPosition() {
+        return new Position(Position.rowOf(position), Position.columnOf(position));
+    }
+
+    /**
+     * Get the result of the command: a MOVE that moved, a PICKUP that found gold or a QUIT that won
+     *
+     * @return flag indicating success, always true for HELLO, LOOK and CAUGHT
+     */
+    public boolean isSuccess() {
+        return success;
+    }
+
+    /**
+     * String representation of GameEvent
+     *
+     * @return string representing the event eg "turn 3 B MOVE success row=2 column=4"
+     */
+    @Override
+    public String toString() {
+        return "turn " + turn + " " + player + " " + type + (success ? " success " : " fail ")
+                + "row=" + Position.rowOf(position) + " column=" + Position.columnOf(position);
+    }
+}
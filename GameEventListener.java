@@ -0,0 +1,13 @@
+/**
+ * GameEventListener interface is implemented by anything that follows the events of a game, eg a replay log
+ * or an analytics feed. Listeners are added to a GameSession and called in the game's thread as each event happens
+ */
+@FunctionalInterface
+public interface GameEventListener {
+    /**
+     * Handle an event of the game
+     *
+     * @param event the event, it is reused by the game so it must not be kept, use GameEvent.copy to keep it
+     */
+    void onEvent(GameEvent event);
+}
@@ -0,0 +1,12 @@
+/**
+ * GameEventType enum represents the kinds of event a game reports to its listeners,
+ * the success flag of an event gives the result where the command can fail
+ */
+public enum GameEventType {
+    HELLO,      // player asked for the gold required to win
+    LOOK,       // player looked at its surroundings
+    MOVE,       // player tried to move, success if it moved, fail if it hit a wall
+    PICKUP,     // player tried to pick up gold, success if there was gold to pick up
+    QUIT,       // player quit and the game ended, success for a win, fail for a loss
+    CAUGHT      // bot caught the human player and the game ended
+}
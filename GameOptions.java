@@ -0,0 +1,252 @@
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * GameOptions class holds the options given to GameLogic on the command line, the game only asks for the options
+ * that are not given. Each option is written as --name value or --name=value, an option that is not given is empty.
+ * More than one game means headless Bot Test games, so --games above 1 sets the mode and trace
+ */
+public class GameOptions {
+    public static final String USAGE = "Usage: java GameLogic [--mode P|T] [--trace [Y|N]] [--map <map file>] "
+            + "[--seed <seed>] [--games <games>] [--threads <threads>] [--input <file>] [--output <file>] [--record <replay file>]";
+    private static final Set<String> OPTION_NAMES = Set.of("mode", "trace", "map", "seed", "games", "threads", "input",
+            "output", "record");
+
+    private GameMode gameMode;      // null if not given
+    private Boolean traceEnabled;   // null if not given
+    private String mapFile;         // null if not given
+    private String inputFile;       // null if not given
+    private String outputFile;      // null if not given
+    private String replayFile;      // null if not given
+    private Long seed;              // null if not given
+    private int games = 1;
+    private Integer threads;        // null if not given
+
+    /**
+     * GameOptions are created by parse
+     */
+    private GameOptions() {
+    }
+
+    /**
+     * Parse the command line arguments
+     *
+     * @param args command line arguments
+     * @return the options
+     * @throws IllegalArgumentException exception if an option is unknown, is missing its value or has an invalid value,
+     *                                  or if the options can not be used together
+     */
+    public static GameOptions parse(String[] args) {
+        final GameOptions options = new GameOptions();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+            }
+            // the value follows an = or is the next argument
+            final int equals = args[i].indexOf('=');
+            final String name = equals < 0 ? args[i].substring(2) : args[i].substring(2, equals);
+            String value = equals < 0 ? null : args[i].substring(equals + 1);
+            if (value == null && i + 1 < args.length && !args[i + 1].startsWith("--")) {
+                value = args[++i];
+            }
+            options.set(name, value);
+        }
+        options.checkCombination();
+        return options;
+    }
+
+    /**
+     * Check the options can be used together, more than one game is played headless in Bot Test mode
+     * and one game is played on the main thread
+     */
+    private void checkCombination() {
+        if (games == 1) {
+            if (threads != null) {
+                throw new IllegalArgumentException("--threads can only be given with --games above 1");
+            }
+            return;
+        }
+        if (gameMode == GameMode.PLAYER_AND_BOT) {
+            throw new IllegalArgumentException("more than one game can only be played in Bot Test mode");
+        }
+        if (Boolean.TRUE.equals(traceEnabled)) {
+            throw new IllegalArgumentException("more than one game can not be played with trace");
+        }
+        if (outputFile != null || replayFile != null) {
+            throw new IllegalArgumentException("more than one game can not be written to --output or --record");
+        }
+        gameMode = GameMode.BOT_TEST;
+        traceEnabled = false;
+    }
+
+    /**
+     * Set an option from its name and value
+     *
+     * @param name  name of the option without the leading --
+     * @param value value of the option, or null if none was given
+     */
+    private void set(String name, String value) {
+        if (!OPTION_NAMES.contains(name)) {
+            throw new IllegalArgumentException("Unknown option: --" + name);
+        }
+        // --trace is the only option that can be given without a value
+        if (name.equals("trace")) {
+            traceEnabled = value == null || parseFlag(value);
+            return;
+        }
+        if (value == null) {
+            throw new IllegalArgumentException("Missing value for --" + name);
+        }
+        switch (name) {
+            case "mode":
+                gameMode = parseGameMode(value);
+                break;
+            case "map":
+                mapFile = value;
+                break;
+            case "input":
+                inputFile = value;
+                break;
+            case "output":
+                outputFile = value;
+                break;
+            case "record":
+                replayFile = value;
+                break;
+            case "seed":
+                seed = Long.parseLong(value);
+                break;
+            case "games":
+                games = parsePositive(name, value);
+                break;
+            case "threads":
+            default:
+                threads = parsePositive(name, value);
+                break;
+        }
+    }
+
+    /**
+     * Parse a game mode, given as P or T as at the prompt or as the name of the GameMode
+     *
+     * @param value value of the option
+     * @return game mode
+     */
+    private static GameMode parseGameMode(String value) {
+        return switch (value.toUpperCase()) {
+            case "P", "PLAYER_AND_BOT" -> GameMode.PLAYER_AND_BOT;
+            case "T", "BOT_TEST" -> GameMode.BOT_TEST;
+            default -> throw new IllegalArgumentException("Invalid game mode: " + value);
+        };
+    }
+
+    /**
+     * Parse a yes or no value, given as Y or N as at the prompt or as true or false
+     *
+     * @param value value of the option
+     * @return flag value
+     */
+    private static boolean parseFlag(String value) {
+        return switch (value.toUpperCase()) {
+            case "Y", "YES", "TRUE" -> true;
+            case "N", "NO", "FALSE" -> false;
+            default -> throw new IllegalArgumentException("Invalid trace value: " + value);
+        };
+    }
+
+    /**
+     * Parse a number that must be at least 1
+     *
+     * @param name  name of the option
+     * @param value value of the option
+     * @return the number
+     */
+    private static int parsePositive(String name, String value) {
+        final int number = Integer.parseInt(value);
+        if (number < 1) {
+            throw new IllegalArgumentException("--" + name + " must be at least 1, found: " + number);
+        }
+        return number;
+    }
+
+    /**
+     * Get the game mode
+     *
+     * @return game mode, or empty if not given, BOT_TEST for more than one game
+     */
+    public Optional<GameMode> getGameMode() {
+        return Optional.ofNullable(gameMode);
+    }
+
+    /**
+     * Get whether trace is enabled
+     *
+     * @return flag, or empty if not given, false for more than one game
+     */
+    public Optional<Boolean> getTraceEnabled() {
+        return Optional.ofNullable(traceEnabled);
+    }
+
+    /**
+     * Get the map file to play on
+     *
+     * @return path to the map file, or empty if not given
+     */
+    public Optional<String> getMapFile() {
+        return Optional.ofNullable(mapFile);
+    }
+
+    /**
+     * Get the file the answers to the prompts and the human player's commands are read from
+     *
+     * @return path to the input file, or empty if they are read from the console
+     */
+    public Optional<String> getInputFile() {
+        return Optional.ofNullable(inputFile);
+    }
+
+    /**
+     * Get the file the game's output is written to
+     *
+     * @return path to the output file, or empty if the output is printed to the console
+     */
+    public Optional<String> getOutputFile() {
+        return Optional.ofNullable(outputFile);
+    }
+
+    /**
+     * Get the file a replay of the game is saved to
+     *
+     * @return path to the replay file, or empty if the game is not recorded
+     */
+    public Optional<String> getReplayFile() {
+        return Optional.ofNullable(replayFile);
+    }
+
+    /**
+     * Get the seed for the random start positions and random bot moves
+     *
+     * @return seed, or empty if not given
+     */
+    public Optional<Long> getSeed() {
+        return Optional.ofNullable(seed);
+    }
+
+    /**
+     * Get the number of games to play
+     *
+     * @return number of games, 1 if not given
+     */
+    public int getGames() {
+        return games;
+    }
+
+    /**
+     * Get the number of threads to play games on
+     *
+     * @return number of threads, the number of cores if not given
+     */
+    public int getThreads() {
+        return threads == null ? Runtime.getRuntime().availableProcessors() : threads;
+    }
+}
@@ -0,0 +1,10 @@
+/**
+ * GameOutcome enum represents how a game finished
+ * WIN and LOSE refer to the player that quit, UNFINISHED is used when a game is abandoned before any player quits or is caught
+ */
+public enum GameOutcome {
+    WIN,
+    LOSE,
+    CAUGHT,
+    UNFINISHED
+}
@@ -0,0 +1,384 @@
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.random.RandomGenerator;
+
+/**
+ * GameSession class holds the state of a single game (its own copy of the map and the players) and controls the game flow,
+ * sessions are independent of each other so many games can be played at the same time.
+ * What happens in the game is reported as GameEvents to the listeners added to the session
+ */
+public class GameSession {
+    public static final int DEFAULT_LOOK_RADIUS = 2;    // the original 5x5 LOOK
+    private final GameMode gameMode;
+    private final boolean traceEnabled;
+    private final Map map;                          // this session's copy of the map, updated as gold is picked up
+    private final HumanPlayer humanPlayer;
+    private final BotPlayer botPlayer;
+    private final OutputSink out;                   // sink that all game output is printed to
+    private final InputSource humanInput;           // source of the human player's commands
+    private GameOutcome outcome;                    // how the game finished, UNFINISHED while in progress
+    private final ViewShape viewShape;              // shape of the area seen with LOOK
+    private final Tile[][] localMapView;            // reused for every LOOK, players must not keep it
+    private final GameEvent event = new GameEvent();    // reused for every event, listeners must not keep it
+    private GameEventListener[] listeners = new GameEventListener[0];
+    private int turn;                               // number of the turn being played, counting from 1
+    private ReplayRecorder recorder;                // records the players' commands, null if not recording
+
+    /**
+     * Constructor for GameSession, the players are placed at random start positions on a copy of the map
+     *
+     * @param map           map to play on, it is copied so it is not changed by the game
+     * @param gameMode      game mode, in BOT_TEST mode only the bot moves
+     * @param traceEnabled  flag to show the full map and log the operations of the bot
+     * @param random        random number generator for the start positions and the bot's random moves,
+     *                      the same seed replays the same game
+     * @param out           sink that all game output is printed to, the players print their responses to it too
+     * @param humanInput    source of the human player's commands, the end of the input quits the game,
+     *                      not used in BOT_TEST mode (may be null)
+     */
+    public GameSession(Map map, GameMode gameMode, boolean traceEnabled, RandomGenerator random, OutputSink out,
+                       InputSource humanInput) {
+        this(map, gameMode, traceEnabled, random, out, humanInput, DEFAULT_LOOK_RADIUS, ViewShape.SQUARE);
+    }
+
+    /**
+     * Constructor for GameSession with a configurable LOOK view
+     *
+     * @param map           map to play on, it is copied so it is not changed by the game
+     * @param gameMode      game mode, in BOT_TEST mode only the bot moves
+     * @param traceEnabled  flag to show the full map and log the operations of the bot
+     * @param random        random number generator for the start positions and the bot's random moves,
+     *                      the same seed replays the same game
+     * @param out           sink that all game output is printed to, the players print their responses to it too
+     * @param humanInput    source of the human player's commands, the end of the input quits the game,
+     *                      not used in BOT_TEST mode (may be null)
+     * @param lookRadius    number of cells seen in each direction with LOOK, at least 1
+     * @param viewShape     shape of the area seen with LOOK
+     */
+    public GameSession(Map map, GameMode gameMode, boolean traceEnabled, RandomGenerator random, OutputSink out,
+                       InputSource humanInput, int lookRadius, ViewShape viewShape) {
+        if (lookRadius < 1) {
+            throw new IllegalArgumentException("LOOK radius must be at least 1, found: " + lookRadius);
+        }
+        this.gameMode = gameMode;
+        this.traceEnabled = traceEnabled;
+        this.map = new Map(map);    // gold pickups change the map so every session needs its own copy
+        this.out = out;
+        this.humanInput = humanInput;
+        this.outcome = GameOutcome.UNFINISHED;
+        this.viewShape = viewShape;
+        this.localMapView = new Tile[2 * lookRadius + 1][2 * lookRadius + 1];
+
+        // create players
+        final Position playerPosition = this.map.getRandomStartPosition(Optional.empty(), random);
+        humanPlayer = new HumanPlayer(playerPosition, Tile.PLAYER);
+        final Position botPosition = this.map.getRandomStartPosition(Optional.of(humanPlayer.getPosition()), random);
+        botPlayer = new BotPlayer(botPosition, Tile.BOT, random);
+        humanPlayer.setOutput(out);
+        botPlayer.setOutput(out);
+        botPlayer.setTraceEnabled(traceEnabled); // Set trace mode for the bot
+    }
+
+    /**
+     * Add a listener that is told about every event of the game from now on, eg to log or analyse the game
+     *
+     * @param listener listener to add
+     */
+    public void addListener(GameEventListener listener) {
+        listeners = Arrays.copyOf(listeners, listeners.length + 1);
+        listeners[listeners.length - 1] = listener;
+    }
+
+    /**
+     * Record the commands of both players from now on, so the game can be saved as a Replay
+     *
+     * @param recorder recorder to record to, or null to stop recording
+     */
+    public void setRecorder(ReplayRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Report an event to the listeners
+     *
+     * @param type    kind of event
+     * @param player  player the event happened to
+     * @param success result of the command
+     */
+    private void fireEvent(GameEventType type, Player player, boolean success) {
+        if (listeners.length == 0) {
+            return;
+        }
+        event.set(type, turn, player.getTile(), player.getPosition().getPacked(), success);
+        for (GameEventListener listener : listeners) {
+            listener.onEvent(event);
+        }
+    }
+
+    /**
+     * Play the game until a player quits or the bot catches the human player
+     *
+     * @return how the game finished
+     */
+    public GameOutcome play() {
+        // show the full map and player positions if trace is enabled
+        if (traceEnabled && out.isEnabled()) {
+            map.printFullMap(Optional.empty(), Optional.empty(), out);
+            out.println(humanPlayer.toString());
+            out.println(botPlayer.toString());
+        }
+        while (playTurn()) {
+            // keep taking turns until the game is over
+        }
+        return outcome;
+    }
+
+    /**
+     * Play a single turn, the human player moves first (unless in BOT_TEST mode) followed by the bot
+     *
+     * @return flag indicating if game is to continue
+     */
+    public boolean playTurn() {
+        boolean continueGame = true;
+        turn++;
+
+        // show the full map with player positions if trace is enabled
+        if (traceEnabled && out.isEnabled()) {
+            map.printFullMap(Optional.of(humanPlayer), Optional.of(botPlayer), out);
+        }
+
+        // in Bot Test mode only the bot moves
+        if (gameMode != GameMode.BOT_TEST) {
+            // human player takes turn
+            if (out.isEnabled()) {
+                out.println("Enter command:");
+            }
+            // the end of the human player's input ends the game as if they had quit
+            final String line = humanInput.nextLine();
+            final Command command = line == null ? Command.QUIT : Command.parse(line);
+            if (recorder != null) {
+                recorder.recordHuman(command);
+            }
+            continueGame = processCommand(command, humanPlayer, botPlayer);
+            if (!continueGame) {
+                outcome = isWin(humanPlayer) ? GameOutcome.WIN : GameOutcome.LOSE;
+            }
+        }
+
+        // bot takes turn
+        if (continueGame) {
+            final Command botCommand = botPlayer.issueCommand();
+            if (recorder != null) {
+                recorder.recordBot(botCommand);
+            }
+            if (out.isEnabled()) {
+                out.println("Bots command: " + botCommand);
+            }
+            continueGame = processCommand(botCommand, botPlayer, humanPlayer);
+            if (!continueGame) {
+                outcome = isWin(botPlayer) ? GameOutcome.WIN : GameOutcome.LOSE;
+            }
+        }
+
+        // check if bot has caught player
+        if (botPlayer.getPosition().equals(humanPlayer.getPosition())) {
+            continueGame = false;
+            outcome = GameOutcome.CAUGHT;
+            fireEvent(GameEventType.CAUGHT, botPlayer, true);
+            if (out.isEnabled()) {
+                out.println("Bot has caught player in " + botPlayer.getMoveCount() + " moves!");
+            }
+        }
+        return continueGame;
+    }
+
+    /**
+     * Get how the game finished, WIN and LOSE refer to the player that quit
+     *
+     * @return outcome of the game, UNFINISHED while the game is in progress
+     */
+    public GameOutcome getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * Get the number of the turn being played
+     *
+     * @return turn, counting from 1, or 0 before the first turn
+     */
+    public int getTurn() {
+        return turn;
+    }
+
+    /**
+     * Get the bot player
+     *
+     * @return bot player
+     */
+    public BotPlayer getBotPlayer() {
+        return botPlayer;
+    }
+
+    /**
+     * Get the human player
+     *
+     * @return human player
+     */
+    public HumanPlayer getHumanPlayer() {
+        return humanPlayer;
+    }
+
+    /**
+     * Process the commands issued by the players
+     *
+     * @param command       command to process
+     * @param callingPlayer player issuing command
+     * @param otherPlayer   other player
+     * @return flag indicating if game is to continue
+     */
+    boolean processCommand(Command command, Player callingPlayer, Player otherPlayer) {
+        boolean continueGame = true;
+        switch (command) {
+            case HELLO:
+                final String message = "Gold to win: " + map.getGoldRequired();
+                callingPlayer.handleHello(message);
+                fireEvent(GameEventType.HELLO, callingPlayer, true);
+                break;
+            case GOLD:
+                if (out.isEnabled()) {
+                    out.println("Gold owned: " + callingPlayer.getGoldOwned());
+                }
+                break;
+            case LOOK:
+                Tile[][] localMap = map.getLocalMap(callingPlayer, otherPlayer, localMapView, viewShape);
+                callingPlayer.handleLook(localMap);
+                fireEvent(GameEventType.LOOK, callingPlayer, true);
+                break;
+            case MOVE_NORTH:
+            case MOVE_SOUTH:
+            case MOVE_EAST:
+            case MOVE_WEST:
+                processMove(callingPlayer, command.getDirection());
+                break;
+            case QUIT:
+                processQuit(callingPlayer);
+                continueGame = false;
+                break;
+            case PICKUP:
+                processPickup(callingPlayer);
+                break;
+            case INVALID:
+            default:
+                if (out.isEnabled()) {
+                    out.println("Invalid command");
+                }
+                break;
+        }
+        return continueGame;
+    }
+
+    /**
+     * Process the PICKUP command to collect gold
+     * If successful, print: 'Success. Gold owned: x' and remove the gold at that position
+     * If unsuccessful, print: 'Fail. Gold owned: x'
+     *
+     * @param player player issuing command
+     */
+    private void processPickup(Player player) {
+        final Tile tile = map.getTile(player.getPosition());
+        if (tile == Tile.GOLD) {
+            // gold is collected whether or not the response is printed
+            final int goldOwned = player.incrementGoldOwned();
+            if (isPrintToConsole(player)) {
+                out.println("Success. Gold owned: " + goldOwned);
+            }
+            map.setTile(player.getPosition(), Tile.SPACE);    // replace the tile with a SPACE
+            fireEvent(GameEventType.PICKUP, player, true);
+        } else {
+            // no gold to collect
+            if (isPrintToConsole(player)) {
+                out.println("Fail. Gold owned: " + player.getGoldOwned());
+            }
+            fireEvent(GameEventType.PICKUP, player, false);
+        }
+    }
+
+    /**
+     * Process the QUIT command to finish the game
+     * If successful, print: 'WIN for x' where x is either P (Player) or B (Bot)
+     * If unsuccessful, print: 'LOSE'
+     *
+     * @param player player issuing command
+     */
+    private void processQuit(Player player) {
+        final boolean win = isWin(player);
+        fireEvent(GameEventType.QUIT, player, win);
+        if (win) {
+            if (out.isEnabled()) {
+                out.println("WIN for " + player.getTile());
+            }
+        } else if (out.isEnabled()) {
+            out.println("LOSE");
+        }
+    }
+
+    /**
+     * Check whether the player would win by quitting at their current position
+     *
+     * @param player player to check
+     * @return flag indicating whether the player has won
+     */
+    boolean isWin(Player player) {
+        final Tile tile = map.getTile(player.getPosition());
+        // if player is at EXIT tile with enough gold player wins
+        return tile == Tile.EXIT && player.getGoldOwned() >= map.getGoldRequired();
+    }
+
+    /**
+     * Process the MOVE command
+     *
+     * @param player    player issuing command
+     * @param direction direction of move (ie NORTH, SOUTH, EAST, WEST)
+     */
+    private void processMove(Player player, Direction direction) {
+        // get tile at next position, a new Position is only created if the move succeeds
+        final Position position = player.getPosition();
+        final int nextRow = position.getRow() + direction.getRowStep();
+        final int nextColumn = position.getColumn() + direction.getColumnStep();
+        final Tile tile = map.getTile(nextRow, nextColumn);
+
+        // validate tile at next position and update position if valid
+        switch (tile == null ? Tile.WALL : tile) {
+            case SPACE:
+            case EXIT:
+            case GOLD:
+                player.setPosition(new Position(nextRow, nextColumn));
+                player.handleMove(direction, true);
+                if (isPrintToConsole(player)) {
+                    out.println("Success");
+                }
+                fireEvent(GameEventType.MOVE, player, true);
+                break;
+            case WALL:
+            default:
+                player.handleMove(direction, false);
+                if (isPrintToConsole(player)) {
+                    out.println("Fail");
+                }
+                fireEvent(GameEventType.MOVE, player, false);
+                break;
+        }
+    }
+
+    /**
+     * Should we print the response to a command for the given player
+     *
+     * @param player player
+     * @return boolean indicates whether to print or not
+     */
+    private boolean isPrintToConsole(Player player) {
+        // always print for the human player but only for the bot player if trace is enabled, never if output is discarded
+        return out.isEnabled()
+                && (player instanceof HumanPlayer || player instanceof BotPlayer botPlayer && botPlayer.isTraceEnabled());
+    }
+}
@@ -0,0 +1,58 @@
+/**
+ * Grid interface represents the storage of the map's tiles, row 0 column 0 is the top left corner.
+ * Rows and columns passed to the get and set methods must be within the grid, bounds are checked by the Map
+ */
+public interface Grid {
+    /**
+     * Get number of rows in the grid
+     *
+     * @return number of rows
+     */
+    int getRowSize();
+
+    /**
+     * Get number of columns in the grid
+     *
+     * @return number of columns
+     */
+    int getColumnSize();
+
+    /**
+     * Get the Tile at the specified row and column
+     *
+     * @param row    row number (zero based)
+     * @param column column number (zero based)
+     * @return Tile at the specified row and column
+     */
+    Tile get(int row, int column);
+
+    /**
+     * Set the Tile at the specified row and column
+     *
+     * @param row    row number (zero based)
+     * @param column column number (zero based)
+     * @param tile   new Tile value
+     */
+    void set(int row, int column, Tile tile);
+
+    /**
+     * Count the number of each Tile in the grid
+     *
+     * @return number of each Tile, indexed by Tile ordinal
+     */
+    int[] countTiles();
+
+    /**
+     * Create a copy of the grid that can be changed without affecting this grid
+     *
+     * @return copy of the grid
+     */
+    Grid copy();
+
+    /**
+     * Estimate the heap memory used by the grid, assuming compressed object references and 16 byte array headers
+     *
+     * @return estimated size in bytes
+     */
+    long getFootprintBytes();
+}
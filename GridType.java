@@ -0,0 +1,22 @@
+/**
+ * GridType enum for the ways the map's tiles can be stored
+ * TILE_ARRAY uses a Tile[][], BYTE packs the tile ordinals into one byte[] which is better for large maps
+ */
+public enum GridType {
+    TILE_ARRAY,
+    BYTE;
+
+    /**
+     * Create an empty grid of this type
+     *
+     * @param rowSize    number of rows
+     * @param columnSize number of columns
+     * @return new grid
+     */
+    public Grid create(int rowSize, int columnSize) {
+        return switch (this) {
+            case TILE_ARRAY -> new TileArrayGrid(rowSize, columnSize);
+            case BYTE -> new ByteGrid(rowSize, columnSize);
+        };
+    }
+}
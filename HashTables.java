@@ -0,0 +1,50 @@
+/**
+ * HashTables class holds the hashing shared by the open addressing IntIntMap and Position.hash
+ */
+final class HashTables {
+    private static final int INT_MIX = 0x9E37_79B9;                 // 2^32 / golden ratio
+    private static final long LONG_MIX = 0x9E37_79B9_7F4A_7C15L;    // 2^64 / golden ratio
+    private static final int MAXIMUM_CAPACITY = 1 << 30;            // largest table size
+
+    /**
+     * HashTables only has static methods
+     */
+    private HashTables() {
+    }
+
+    /**
+     * Mix the bits of an int key so keys next to each other (eg neighbouring cells) land in different slots
+     *
+     * @param key key to hash
+     * @return mixed hash, the low bits select the slot
+     */
+    static int mix(int key) {
+        final int h = key * INT_MIX;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Mix the bits of a long key, eg a packed Position
+     *
+     * @param key key to hash
+     * @return mixed hash, the low bits select the slot
+     */
+    static int mix(long key) {
+        final long h = key * LONG_MIX;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * Get the table size needed to hold a number of keys at a load factor of at most 1/2
+     *
+     * @param expectedSize    expected number of keys
+     * @param minimumCapacity smallest table size, a power of two
+     * @return table size, a power of two
+     */
+    static int capacityFor(int expectedSize, int minimumCapacity) {
+        if (expectedSize >= MAXIMUM_CAPACITY / 2) {
+            return MAXIMUM_CAPACITY;
+        }
+        return Math.max(minimumCapacity, Integer.highestOneBit(Math.max(1, expectedSize * 2 - 1)) << 1);
+    }
+}
@@ -0,0 +1,54 @@
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.Queue;
+
+/**
+ * InputSource interface represents where the lines typed by a human player come from: the console, a script file or
+ * lines queued in memory. One source is created for a run and used for every prompt and every turn,
+ * so input buffered by the source is never lost between reads
+ */
+public interface InputSource extends AutoCloseable {
+    /**
+     * Read the next line of input
+     *
+     * @return the line without its line terminator, or null at the end of the input
+     */
+    String nextLine();
+
+    /**
+     * Close the source, a source reading the console leaves it open
+     */
+    @Override
+    default void close() {
+    }
+
+    /**
+     * Create a source reading the console
+     *
+     * @return source reading System.in
+     */
+    static InputSource console() {
+        return new ReaderInputSource(System.in, false);
+    }
+
+    /**
+     * Create a source reading a script file, one command or answer per line
+     *
+     * @param filename the path to the file
+     * @return source reading the file
+     * @throws IOException exception if the file cannot be opened
+     */
+    static InputSource file(String filename) throws IOException {
+        return new ReaderInputSource(new FileInputStream(filename), true);
+    }
+
+    /**
+     * Create a source taking lines from a queue, the input ends when the queue is empty
+     *
+     * @param lines queue of lines
+     * @return source taking lines from the queue
+     */
+    static InputSource queue(Queue<String> lines) {
+        return new QueueInputSource(lines);
+    }
+}
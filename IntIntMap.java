@@ -0,0 +1,154 @@
+import java.util.Arrays;
+
+/**
+ * IntIntMap class maps int keys to int values in an open addressing hash table with linear probing.
+ * Keys and values are held in plain int[] arrays so a put or get does not box them or allocate an entry,
+ * which makes it suitable for tables keyed by cell indices (row * columnSize + column) such as came-from or distance maps
+ */
+public class IntIntMap {
+    private static final int FREE = 0;              // marks an empty slot, the key 0 itself is held in freeValue
+    private static final int MINIMUM_CAPACITY = 16; // smallest table size, a power of two
+
+    private int[] keys;             // hash table of keys, FREE where empty
+    private int[] values;           // value of the key in the same slot
+    private int mask;               // table size - 1, the table size is a power of two
+    private int size;               // number of keys in the map
+    private boolean containsFree;   // whether the key 0 is in the map
+    private int freeValue;          // value of the key 0
+
+    /**
+     * Constructor for IntIntMap
+     */
+    public IntIntMap() {
+        this(MINIMUM_CAPACITY);
+    }
+
+    /**
+     * Constructor for IntIntMap with room for the expected number of keys before the table has to grow
+     *
+     * @param expectedSize expected number of keys
+     */
+    public IntIntMap(int expectedSize) {
+        final int capacity = HashTables.capacityFor(expectedSize, MINIMUM_CAPACITY);
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Set the value of a key, replacing any value it already has
+     *
+     * @param key   key
+     * @param value value
+     * @return flag indicating whether the key was added, false if it was already in the map
+     */
+    public boolean put(int key, int value) {
+        if (key == FREE) {
+            freeValue = value;
+            if (containsFree) {
+                return false;
+            }
+            containsFree = true;
+            size++;
+            return true;
+        }
+        int slot = HashTables.mix(key) & mask;
+        while (keys[slot] != FREE) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > keys.length / 2) {
+            rehash(keys.length * 2);
+        }
+        return true;
+    }
+
+    /**
+     * Get the value of a key
+     *
+     * @param key          key
+     * @param defaultValue value returned if the key is not in the map
+     * @return value of the key, or defaultValue if the key is not in the map
+     */
+    public int get(int key, int defaultValue) {
+        if (key == FREE) {
+            return containsFree ? freeValue : defaultValue;
+        }
+        int slot = HashTables.mix(key) & mask;
+        while (keys[slot] != FREE) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Check if a key is in the map
+     *
+     * @param key key to look for
+     * @return flag indicating whether the key is in the map
+     */
+    public boolean containsKey(int key) {
+        if (key == FREE) {
+            return containsFree;
+        }
+        int slot = HashTables.mix(key) & mask;
+        while (keys[slot] != FREE) {
+            if (keys[slot] == key) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Get the number of keys in the map
+     *
+     * @return number of keys
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Remove every key, the table keeps its size so refilling it does not allocate
+     */
+    public void clear() {
+        if (size > 0) {
+            Arrays.fill(keys, FREE);
+            containsFree = false;
+            size = 0;
+        }
+    }
+
+    /**
+     * Move the keys and values to a new table
+     *
+     * @param capacity size of the new table, a power of two
+     */
+    private void rehash(int capacity) {
+        final int[] oldKeys = keys;
+        final int[] oldValues = values;
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE) {
+                int slot = HashTables.mix(oldKeys[i]) & mask;
+                while (keys[slot] != FREE) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
@@ -1,95 +1,118 @@
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.util.Iterator;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Map class handles reading the map from a file, validating its structure, and providing methods for interacting with the map's data
  */
 public class Map {
+    private static final Direction[] DIRECTIONS = Direction.values();  // values() copies its array on every call
 
-    private int rowSize;
-    private int columnSize;
-    // map is 2D array
+    private final int rowSize;
+    private final int columnSize;
     // row 0 column 0 is the top left corner of the map
-    private Tile[][] map;
+    private final Grid grid;
     private final String mapName;
     private final int goldRequired;
+    private final int[] tileCounts;     // number of each tile in the grid, indexed by Tile ordinal
+    // cells a player can start on (SPACE or EXIT) as row * columnSize + column, built on first use, null if it must
+    // be built again
+    private int[] freeCells;
+    private int freeCellCount;
+    // whether freeCells came from the map this was copied from, it is copied before this map adds to it. The map that
+    // built the list only ever adds past the cells its copies read, so it can keep adding in place
+    private boolean freeCellsShared;
+    private MapRenderer renderer;       // draws the full map for printFullMap, created on first use
+    // distances to the nearest EXIT and GOLD, built on first use and kept up to date by setTile
+    private DistanceField exitDistances;
+    private DistanceField goldDistances;
+    // spatial indexes of the EXIT and GOLD tiles, built on first use and kept up to date by setTile
+    private TileIndex exitIndex;
+    private TileIndex goldIndex;
 
     /**
-     * Map constructor will read map from file
+     * Map constructor will read map from file, the tiles are stored in a Tile[][]
      *
      * @param filename the path to the map file
      * @throws Exception exception if the file cannot be read or if the map format is invalid
      */
     public Map(String filename) throws Exception {
-        final Path path = Paths.get(filename);
-        List<String> lines;
-        // catch exception if file cannot be read
-        try {
-            lines = Files.readAllLines(path);
-        } catch (IOException e) {
-            throw new Exception("Unable to open file at path: " + filename);
-        }
-        final Iterator<String> lineItr = lines.iterator();
-        // read name header
-        final String nameLine = lineItr.next();
-        // ensure that the line starts with "name" 
-        if (!nameLine.startsWith("name")) {
-            throw new Exception("first line of map file must start with 'name', found: " + nameLine);
-        }
-        mapName = nameLine.substring(5);
+        this(filename, GridType.TILE_ARRAY);
+    }
 
-        // read win header
-        final String winLine = lineItr.next();
-        // ensure line starts with "win" 
-        if (!winLine.startsWith("win")) {
-            throw new Exception("second line of map file must start with 'win', found: " + winLine);
-        }
-        //parse the remaining text into an integer to store the require amount of gold to win
-        goldRequired = Integer.parseInt(winLine.substring(4));
-
-        // read map
-        int row = 0;
-        while (lineItr.hasNext()) {
-            final String line = lineItr.next();
-            final char[] charArray = line.toCharArray();
-
-            if (map == null) {
-                // if map has not been initialised, initialise internal map and dimension variables
-                rowSize = lines.size() - 2;     // row size given by total lines minus 2 header lines
-                columnSize = charArray.length;
-                map = new Tile[rowSize][columnSize];
-            }
-            // ensure all rows have same column size
-            if (charArray.length != columnSize) {
-                throw new Exception("map is not rectangular");
-            }
-            // read each row of characters to an array of Tile
-            // resulting array stored in the map array, row by row
-            map[row++] = Tile.readRow(charArray);
+    /**
+     * Map constructor will read map from file and store the tiles in the given type of grid
+     *
+     * @param filename the path to the map file
+     * @param gridType how the tiles are stored, BYTE uses much less memory for large maps
+     * @throws Exception exception if the file cannot be read or if the map format is invalid
+     */
+    public Map(String filename, GridType gridType) throws Exception {
+        this(new MapLoader(filename, gridType));
+    }
+
+    /**
+     * Load a map from either a text or a binary map file, binary files are recognised by their header
+     *
+     * @param filename the path to the map file
+     * @param gridType how the tiles are stored
+     * @return the loaded map
+     * @throws Exception exception if the file cannot be read or if the map format is invalid
+     */
+    public static Map load(String filename, GridType gridType) throws Exception {
+        if (BinaryMapFormat.isBinaryMap(filename)) {
+            return BinaryMapFormat.load(filename, gridType);
         }
+        return new Map(filename, gridType);
+    }
+
+    /**
+     * Map constructor from the contents read by a MapLoader
+     *
+     * @param loader loader that has read the map file
+     * @throws Exception exception if the map is invalid
+     */
+    private Map(MapLoader loader) throws Exception {
+        this(loader.getMapName(), loader.getGoldRequired(), loader.getGrid(), loader.getTileCounts());
+    }
+
+    /**
+     * Map constructor from a name, gold requirement and grid of tiles, the map is validated
+     *
+     * @param mapName      name of the map
+     * @param goldRequired quantity of gold required to win
+     * @param grid         grid of tiles, it is used directly not copied
+     * @throws Exception exception if the map is invalid
+     */
+    Map(String mapName, int goldRequired, Grid grid) throws Exception {
+        this(mapName, goldRequired, grid, grid.countTiles());
+    }
+
+    /**
+     * Map constructor from a name, gold requirement, grid of tiles and the number of each tile in the grid,
+     * loaders that count the tiles while decoding use this to avoid scanning the grid again
+     *
+     * @param mapName      name of the map
+     * @param goldRequired quantity of gold required to win
+     * @param grid         grid of tiles, it is used directly not copied
+     * @param tileCounts   number of each tile in the grid, indexed by Tile ordinal
+     * @throws Exception exception if the map is invalid
+     */
+    Map(String mapName, int goldRequired, Grid grid, int[] tileCounts) throws Exception {
+        this.mapName = mapName;
+        this.goldRequired = goldRequired;
+        this.grid = grid;
+        this.rowSize = grid.getRowSize();
+        this.columnSize = grid.getColumnSize();
+        this.tileCounts = tileCounts.clone();
 
         // analyse map to ensure it is valid
-        int totalGold = 0;
-        int totalSpaces = 0;
-        int totalExits = 0;
-
-        for (int i = 0; i < rowSize; i++) {
-            for (int j = 0; j < columnSize; j++) {
-                if (map[i][j] == Tile.GOLD) {
-                    totalGold++;
-                } else if (map[i][j] == Tile.SPACE) {
-                    totalSpaces++;
-                } else if (map[i][j] == Tile.EXIT) {
-                    totalExits++;
-                }
-            }
-        }
+        final int totalGold = tileCounts[Tile.GOLD.ordinal()];
+        final int totalSpaces = tileCounts[Tile.SPACE.ordinal()];
+        final int totalExits = tileCounts[Tile.EXIT.ordinal()];
 
         // check if there is enough gold on the map
         if (totalGold < goldRequired) {
@@ -104,6 +127,45 @@ public class Map {
         }
     }
 
+    /**
+     * Copy constructor for Map, the tiles are copied so the new map can be changed without affecting the original
+     *
+     * @param other Map object to copy
+     */
+    public Map(Map other) {
+        this.rowSize = other.rowSize;
+        this.columnSize = other.columnSize;
+        this.mapName = other.mapName;
+        this.goldRequired = other.goldRequired;
+        this.grid = other.grid.copy();
+        this.tileCounts = other.tileCounts.clone();
+        this.freeCells = other.freeCells;
+        this.freeCellCount = other.freeCellCount;
+        this.freeCellsShared = other.freeCells != null;
+        this.exitDistances = other.exitDistances == null ? null : new DistanceField(other.exitDistances);
+        this.goldDistances = other.goldDistances == null ? null : new DistanceField(other.goldDistances);
+        this.exitIndex = other.exitIndex == null ? null : new TileIndex(other.exitIndex);
+        this.goldIndex = other.goldIndex == null ? null : new TileIndex(other.goldIndex);
+    }
+
+    /**
+     * Get the grid storing the map's tiles
+     *
+     * @return grid of tiles
+     */
+    public Grid getGrid() {
+        return grid;
+    }
+
+    /**
+     * Get the name of the map
+     *
+     * @return name of the map
+     */
+    public String getMapName() {
+        return mapName;
+    }
+
     /**
      * Get the quantity of gold required to win
      *
@@ -121,24 +183,230 @@ public class Map {
      * @return Tile at specified position
      */
     public Tile getTile(Position position) {
+        return getTile(position.getRow(), position.getColumn());
+    }
+
+    /**
+     * Get the Tile at the specified row and column
+     *
+     * @param row    row of tile
+     * @param column column of tile
+     * @return Tile at specified row and column, or null if outside the map
+     */
+    public Tile getTile(int row, int column) {
         // check supplied position is within bounds of map
-        final int row = position.getRow();
-        final int column = position.getColumn();
         if (row >= 0 && row < rowSize && column >= 0 && column < columnSize) {
-            return map[row][column];
+            return grid.get(row, column);
         }
         // return null if position outside map
         return null;
     }
 
     /**
-     * Set the Tile at the specified position
+     * Set the Tile at the specified position, the tile counts, indexes and distance fields are updated for the change.
+     * Tiles must be changed through this method rather than the Grid for the distances to stay correct
      *
      * @param position position of tile to be updated
      * @param tile     new Tile value
      */
     public void setTile(Position position, Tile tile) {
-        map[position.getRow()][position.getColumn()] = tile;
+        final int row = position.getRow();
+        final int column = position.getColumn();
+        final Tile oldTile = grid.get(row, column);
+        grid.set(row, column, tile);
+        if (oldTile == tile) {
+            return;
+        }
+        tileCounts[oldTile.ordinal()]--;
+        tileCounts[tile.ordinal()]++;
+        if (isFree(tile) != isFree(oldTile) && freeCells != null) {
+            if (isFree(tile)) {
+                // a new free cell is added at the end, a free cell filled in is found when the cells are built again
+                if (freeCellsShared || freeCellCount == freeCells.length) {
+                    freeCells = Arrays.copyOf(freeCells, Math.max(16, freeCellCount * 2));
+                    freeCellsShared = false;
+                }
+                freeCells[freeCellCount++] = row * columnSize + column;
+            } else {
+                freeCells = null;
+            }
+        }
+        updateIndex(exitIndex, row, column, oldTile, tile);
+        updateIndex(goldIndex, row, column, oldTile, tile);
+        if (oldTile == Tile.WALL || tile == Tile.WALL) {
+            // a wall changes the routes themselves, the fields are built again when next needed
+            exitDistances = null;
+            goldDistances = null;
+            return;
+        }
+        exitDistances = updateDistances(exitDistances, row, column, oldTile, tile);
+        goldDistances = updateDistances(goldDistances, row, column, oldTile, tile);
+    }
+
+    /**
+     * Get the number of a tile on the map, the counts are kept by setTile so this does not scan the map
+     *
+     * @param tile tile to count
+     * @return number of the tile on the map
+     */
+    public int getTileCount(Tile tile) {
+        return tileCounts[tile.ordinal()];
+    }
+
+    /**
+     * Check if a player can still win, which needs enough gold left on the map to make up the gold required
+     *
+     * @param goldOwned gold the player owns
+     * @return flag indicating whether the player owns, or could still pick up, the gold required to win
+     */
+    public boolean isWinReachable(int goldOwned) {
+        return goldOwned + tileCounts[Tile.GOLD.ordinal()] >= goldRequired;
+    }
+
+    /**
+     * Get a hash of the map's contents (gold required, size and every tile) using 64 bit FNV-1a,
+     * eg to check a replay is played on the map it was recorded on. The name is not included
+     *
+     * @return hash of the map
+     */
+    public long getContentHash() {
+        long hash = 0xCBF29CE484222325L;
+        hash = (hash ^ goldRequired) * 0x100000001B3L;
+        hash = (hash ^ rowSize) * 0x100000001B3L;
+        hash = (hash ^ columnSize) * 0x100000001B3L;
+        for (int row = 0; row < rowSize; row++) {
+            for (int column = 0; column < columnSize; column++) {
+                hash = (hash ^ grid.get(row, column).ordinal()) * 0x100000001B3L;
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Update a spatial index after a tile has changed
+     *
+     * @param index   index to update, or null if it has not been built
+     * @param row     row of the changed tile
+     * @param column  column of the changed tile
+     * @param oldTile tile before the change
+     * @param tile    tile after the change
+     */
+    private static void updateIndex(TileIndex index, int row, int column, Tile oldTile, Tile tile) {
+        if (index != null) {
+            if (oldTile == index.getTile()) {
+                index.remove(row, column);
+            } else if (tile == index.getTile()) {
+                index.add(row, column);
+            }
+        }
+    }
+
+    /**
+     * Find the GOLD or EXIT tiles nearest to a position, distance is the number of moves ignoring walls.
+     * The tiles are found through a spatial index that is built the first time it is needed, so a search
+     * only looks at the part of the map around the position
+     *
+     * @param tile    GOLD or EXIT
+     * @param row     row of the position
+     * @param column  column of the position
+     * @param nearest array filled with the packed positions of the tiles found nearest first,
+     *                its length is the number of tiles wanted
+     * @return number of tiles found, less than the length of nearest only if the map holds fewer
+     */
+    public int findNearest(Tile tile, int row, int column, long[] nearest) {
+        return getIndex(tile).findNearest(row, column, nearest);
+    }
+
+    /**
+     * Get the GOLD or EXIT tiles nearest to a position, distance is the number of moves ignoring walls
+     *
+     * @param tile     GOLD or EXIT
+     * @param position position to search from
+     * @param count    number of tiles wanted
+     * @return positions of the tiles, nearest first
+     */
+    public List<Position> getNearest(Tile tile, Position position, int count) {
+        final long[] nearest = new long[count];
+        final int found = findNearest(tile, position.getRow(), position.getColumn(), nearest);
+        final List<Position> positions = new ArrayList<>(found);
+        for (int i = 0; i < found; i++) {
+            positions.add(new Position(Position.rowOf(nearest[i]), Position.columnOf(nearest[i])));
+        }
+        return positions;
+    }
+
+    /**
+     * Get the spatial index of a tile, building it if needed
+     *
+     * @param tile GOLD or EXIT
+     * @return index of the tile
+     */
+    private TileIndex getIndex(Tile tile) {
+        switch (tile) {
+            case GOLD:
+                if (goldIndex == null) {
+                    goldIndex = new TileIndex(grid, Tile.GOLD, getTileCount(Tile.GOLD));
+                }
+                return goldIndex;
+            case EXIT:
+                if (exitIndex == null) {
+                    exitIndex = new TileIndex(grid, Tile.EXIT, getTileCount(Tile.EXIT));
+                }
+                return exitIndex;
+            default:
+                throw new IllegalArgumentException("Only GOLD and EXIT tiles are indexed: " + tile);
+        }
+    }
+
+    /**
+     * Update a distance field after a tile that can be entered has changed to another tile that can be entered
+     *
+     * @param distances field to update, or null if it has not been built
+     * @param row       row of the changed tile
+     * @param column    column of the changed tile
+     * @param oldTile   tile before the change
+     * @param tile      tile after the change
+     * @return the updated field
+     */
+    private DistanceField updateDistances(DistanceField distances, int row, int column, Tile oldTile, Tile tile) {
+        if (distances != null) {
+            if (oldTile == distances.getTarget()) {
+                distances.removeSource(grid, row, column);
+            } else if (tile == distances.getTarget()) {
+                distances.addSource(grid, row, column);
+            }
+        }
+        return distances;
+    }
+
+    /**
+     * Get the number of moves from a position to the nearest EXIT, walls are avoided and players are ignored.
+     * The distances to every position are found by one search the first time they are needed
+     *
+     * @param row    row of the position
+     * @param column column of the position
+     * @return number of moves, or DistanceField.UNREACHABLE if no EXIT can be reached
+     */
+    public int getDistanceToExit(int row, int column) {
+        if (exitDistances == null) {
+            exitDistances = new DistanceField(grid, Tile.EXIT);
+        }
+        return exitDistances.getDistance(row, column);
+    }
+
+    /**
+     * Get the number of moves from a position to the nearest GOLD, walls are avoided and players are ignored.
+     * The distances are updated as gold is picked up rather than searched for again
+     *
+     * @param row    row of the position
+     * @param column column of the position
+     * @return number of moves, or DistanceField.UNREACHABLE if no GOLD is left or none can be reached
+     */
+    public int getDistanceToGold(int row, int column) {
+        if (goldDistances == null) {
+            goldDistances = new DistanceField(grid, Tile.GOLD);
+        }
+        return goldDistances.getDistance(row, column);
     }
 
     /**
@@ -148,25 +416,22 @@ public class Map {
      * @param player2 optional second player to display
      */
     public void printFullMap(Optional<Player> player1, Optional<Player> player2) {
-        // print map name and gold requirement 
-        System.out.println("name " + mapName);
-        System.out.print("win " + goldRequired);
-        for (int i = 0; i < rowSize; i++) {
-            System.out.println();
-            for (int j = 0; j < columnSize; j++) {
-                // override tile with player symbol if at that position
-                final Position position = new Position(i, j);
-                if (player1.isPresent() && player1.get().getPosition().equals(position)) {
-                    System.out.print(player1.get().getTile());
-                } else if (player2.isPresent() && player2.get().getPosition().equals(position)) {
-                    System.out.print(player2.get().getTile());
-                } else {
-                    System.out.print(map[i][j]); // otherwise print the tile's character 
-                }
-            }
-        }
+        printFullMap(player1, player2, OutputSink.console());
+    }
 
-        System.out.println();
+    /**
+     * Print the full map to a sink, optionally showing players' positions.
+     * The map is drawn into a reused buffer and printed with one call, so this is fast enough to call every turn
+     *
+     * @param player1 optional first player to display
+     * @param player2 optional second player to display
+     * @param out     sink to print the map to
+     */
+    public void printFullMap(Optional<Player> player1, Optional<Player> player2, OutputSink out) {
+        if (renderer == null) {
+            renderer = new MapRenderer();
+        }
+        renderer.render(this, player1, player2, out);
     }
 
 
@@ -178,29 +443,65 @@ public class Map {
      * @return 5x5 Tile array representing a local map
      */
     public Tile[][] getLocalMap(Player callingPlayer, Player otherPlayer) {
-        Tile[][] localMap = new Tile[5][5];
+        return getLocalMap(callingPlayer, otherPlayer, new Tile[5][5]);
+    }
+
+    /**
+     * Fill a view buffer supplied by the caller with the local square map centered around the calling player,
+     * the buffer can be reused for every LOOK so no arrays or positions are allocated
+     *
+     * @param callingPlayer the player requesting the local map
+     * @param otherPlayer   the other player
+     * @param view          square Tile array with an odd size to fill, every cell is overwritten
+     * @return the view buffer
+     */
+    public Tile[][] getLocalMap(Player callingPlayer, Player otherPlayer, Tile[][] view) {
+        return getLocalMap(callingPlayer, otherPlayer, view, ViewShape.SQUARE);
+    }
+
+    /**
+     * Fill a view buffer supplied by the caller with the local map centered around the calling player.
+     * The radius of the view is set by the size of the buffer, eg a 5x5 buffer has radius 2,
+     * cells of the buffer outside the view shape are set to null as they can not be seen
+     *
+     * @param callingPlayer the player requesting the local map
+     * @param otherPlayer   the other player
+     * @param view          square Tile array with an odd size to fill, every cell is overwritten
+     * @param shape         shape of the area that can be seen
+     * @return the view buffer
+     */
+    public Tile[][] getLocalMap(Player callingPlayer, Player otherPlayer, Tile[][] view, ViewShape shape) {
+        final int radius = view.length / 2;
+        final int callingRow = callingPlayer.getPosition().getRow();
+        final int callingColumn = callingPlayer.getPosition().getColumn();
+        final int otherRow = otherPlayer.getPosition().getRow();
+        final int otherColumn = otherPlayer.getPosition().getColumn();
         // populate grid with tiles, areas out of map populate with wall symbol
-        for (int i = 0; i < 5; i++) {
-            for (int j = 0; j < 5; j++) {
-                int rowInMap = callingPlayer.getPosition().getRow() - 2 + i;
-                int columnInMap = callingPlayer.getPosition().getColumn() - 2 + j;
-                // only lookup in map if we are in bounds of map dimensions
-                if (rowInMap >= 0 && rowInMap < rowSize && columnInMap >= 0 && columnInMap < columnSize) {
+        for (int i = 0; i < view.length; i++) {
+            final int rowInMap = callingRow - radius + i;
+            final Tile[] viewRow = view[i];
+            for (int j = 0; j < viewRow.length; j++) {
+                final int columnInMap = callingColumn - radius + j;
+                if (!shape.contains(i - radius, j - radius, radius)) {
+                    // outside the view shape nothing is seen
+                    viewRow[j] = null;
+                } else if (rowInMap >= 0 && rowInMap < rowSize && columnInMap >= 0 && columnInMap < columnSize) {
+                    // only lookup in map if we are in bounds of map dimensions
                     // display other player if they occupy the position
-                    if (otherPlayer.getPosition().equals(new Position(rowInMap, columnInMap))) {
-                        localMap[i][j] = otherPlayer.getTile();
+                    if (rowInMap == otherRow && columnInMap == otherColumn) {
+                        viewRow[j] = otherPlayer.getTile();
                     } else {
-                        localMap[i][j] = map[rowInMap][columnInMap];
+                        viewRow[j] = grid.get(rowInMap, columnInMap);
                     }
                 } else {
                     // when out of bounds fill with wall symbol
-                    localMap[i][j] = Tile.WALL;
+                    viewRow[j] = Tile.WALL;
                 }
             }
         }
         // set centre of local map with supplied char (calling player's symbol)
-        localMap[2][2] = callingPlayer.getTile();
-        return localMap;
+        view[radius][radius] = callingPlayer.getTile();
+        return view;
     }
 
     /**
@@ -209,15 +510,31 @@ public class Map {
      * @param map 2d Tile array representing map to print
      */
     public static void printMap(Tile[][] map) {
+        printMap(map, OutputSink.console());
+    }
+
+    /**
+     * Print the map to a sink, the rows are built into one block of text which is printed with a single call
+     *
+     * @param map 2d Tile array representing map to print
+     * @param out sink to print the map to
+     */
+    public static void printMap(Tile[][] map, OutputSink out) {
+        if (!out.isEnabled()) {
+            return;
+        }
         final int columns = map.length;
         final int rows = map[0].length;
-        // print each row
+        final StringBuilder text = new StringBuilder(rows * (columns + 1));
+        // add each row
         for (int i = 0; i < rows; i++) {
             for (int j = 0; j < columns; j++) {
-                System.out.print(map[i][j]);
+                // cells outside the view are not seen, print them blank
+                text.append(map[i][j] == null ? ' ' : map[i][j].getCharacter());
             }
-            System.out.println();
+            text.append(System.lineSeparator());
         }
+        out.print(text.toString());
     }
 
     /**
@@ -227,44 +544,89 @@ public class Map {
      * @return a valid starting position
      */
     public Position getRandomStartPosition(Optional<Position> existingPlayerPosition) {
-        final Random random = new Random();
-        boolean validTile = false;
-        int row = -1;
-        int column = -1;
-        // loop until we find valid start tile
-        while (!validTile) {
-            // generate random row number (between 0 and rowSize-1)
-            row = random.nextInt(rowSize);
-            // generate random column number (between 0 and columnSize-1)
-            column = random.nextInt(columnSize);
-            // can not place new player at same position as existing player
-            if (existingPlayerPosition.isPresent() && existingPlayerPosition.get().equals(new Position(row, column))) {
-                continue;
-            }
-            // only EXIT or SPACE tiles allowed as start position
-            final Tile tileAtStart = map[row][column];
-            if (tileAtStart == Tile.EXIT || tileAtStart == Tile.SPACE) {
-                validTile = true;
+        return getRandomStartPosition(existingPlayerPosition, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Generate random starting position on map using the supplied random number generator.
+     * The position is drawn from the list of free cells so walls and gold are never tried,
+     * only a draw of the existing player's position is drawn again
+     *
+     * @param existingPlayerPosition optional position of an existing player (to avoid collision at same position)
+     * @param random                 random number generator, seed it to make the position repeatable
+     * @return a valid starting position
+     */
+    public Position getRandomStartPosition(Optional<Position> existingPlayerPosition, RandomGenerator random) {
+        if (freeCells == null) {
+            buildFreeCells();
+        }
+        final int excluded = existingPlayerPosition.isPresent()
+                ? existingPlayerPosition.get().getRow() * columnSize + existingPlayerPosition.get().getColumn() : -1;
+        if (freeCellCount == 0 || (freeCellCount == 1 && freeCells[0] == excluded)) {
+            throw new IllegalStateException("No free tile to start on");
+        }
+        int cell;
+        do {
+            cell = freeCells[random.nextInt(freeCellCount)];
+        } while (cell == excluded);
+        return new Position(cell / columnSize, cell % columnSize);
+    }
+
+    /**
+     * Check if a player can start on a tile
+     *
+     * @param tile tile to check
+     * @return flag indicating whether the tile is EXIT or SPACE
+     */
+    private static boolean isFree(Tile tile) {
+        return tile == Tile.EXIT || tile == Tile.SPACE;
+    }
+
+    /**
+     * Build the list of free cells if it is not built, copies of the map made afterwards share it until they change
+     * a free cell, so a map copied for every game should be prepared once before it is copied
+     */
+    void prepareStartPositions() {
+        if (freeCells == null) {
+            buildFreeCells();
+        }
+    }
+
+    /**
+     * Build the list of free cells by scanning the grid, the tile counts give its size
+     */
+    private void buildFreeCells() {
+        freeCells = new int[tileCounts[Tile.SPACE.ordinal()] + tileCounts[Tile.EXIT.ordinal()]];
+        freeCellCount = 0;
+        freeCellsShared = false;
+        for (int row = 0; row < rowSize; row++) {
+            for (int column = 0; column < columnSize; column++) {
+                if (isFree(grid.get(row, column))) {
+                    freeCells[freeCellCount++] = row * columnSize + column;
+                }
             }
         }
-        return new Position(row, column);
     }
 
     /**
-     * Check if a player move is valid, a valid move avoids moving into a wall
+     * Get the moves that are valid from a position of a local map, a valid move avoids moving into a wall
+     * or off the edge of the view
      *
-     * @param localMap  5x5 Tile array representing a localMap
-     * @param position  current position of player
-     * @param direction proposed direction of movement
-     * @return flag indicating whether move is valid
+     * @param localMap square grid showing a player's surroundings
+     * @param row      row of the player in the local map
+     * @param column   column of the player in the local map
+     * @return mask with bit n set if the move in the Direction with ordinal n is valid
      */
-    public static boolean isPlayerMoveValid(Tile[][] localMap, Position position, Direction direction) {
-        final Tile nextTile = switch (direction) {
-            case NORTH -> localMap[position.getRow() - 1][position.getColumn()];
-            case EAST -> localMap[position.getRow()][position.getColumn() + 1];
-            case SOUTH -> localMap[position.getRow() + 1][position.getColumn()];
-            case WEST -> localMap[position.getRow()][position.getColumn() - 1];
-        };
-        return nextTile != null && nextTile != Tile.WALL;
+    public static int getValidMoves(Tile[][] localMap, int row, int column) {
+        int validMoves = 0;
+        for (Direction direction : DIRECTIONS) {
+            final int nextRow = row + direction.getRowStep();
+            final int nextColumn = column + direction.getColumnStep();
+            if (nextRow >= 0 && nextRow < localMap.length && nextColumn >= 0 && nextColumn < localMap[nextRow].length
+                    && localMap[nextRow][nextColumn] != null && localMap[nextRow][nextColumn] != Tile.WALL) {
+                validMoves |= 1 << direction.ordinal();
+            }
+        }
+        return validMoves;
     }
 }
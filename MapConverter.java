@@ -0,0 +1,57 @@
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * MapConverter class converts map files between the text format and the binary format of BinaryMapFormat
+ */
+public class MapConverter {
+    /**
+     * Main will convert a map file, the format of the input file is detected from its header
+     *
+     * @param args command line arguments: the target format (binary or text), the input file and the output file
+     */
+    public static void main(String[] args) {
+        if (args.length != 3) {
+            System.out.println("Usage: java MapConverter <binary|text> <input map file> <output map file>");
+            return;
+        }
+        try {
+            final Map map = Map.load(args[1], GridType.BYTE);
+            if (args[0].equalsIgnoreCase("binary")) {
+                BinaryMapFormat.save(map, args[2]);
+            } else if (args[0].equalsIgnoreCase("text")) {
+                saveText(map, args[2]);
+            } else {
+                throw new IllegalArgumentException("Invalid format: " + args[0]);
+            }
+            System.out.println("Converted " + args[1] + " to " + args[2]);
+        } catch (Exception e) {
+            System.out.println("Error: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Save a map to a text map file in the same format as example_map.txt
+     *
+     * @param map      map to save
+     * @param filename the path to the text map file
+     * @throws IOException exception if the file cannot be written
+     */
+    public static void saveText(Map map, String filename) throws IOException {
+        final Grid grid = map.getGrid();
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(filename))) {
+            out.write(("name " + map.getMapName() + "\nwin " + map.getGoldRequired()).getBytes(StandardCharsets.UTF_8));
+            final byte[] row = new byte[grid.getColumnSize() + 1];
+            row[0] = '\n';  // each row starts a new line so the file does not end with an empty line
+            for (int i = 0; i < grid.getRowSize(); i++) {
+                for (int j = 0; j < grid.getColumnSize(); j++) {
+                    row[j + 1] = (byte) grid.get(i, j).getCharacter().charValue();
+                }
+                out.write(row);
+            }
+        }
+    }
+}
@@ -0,0 +1,231 @@
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * MapLoader class reads a text map file by memory-mapping it and decoding the tiles straight into a Grid.
+ * No String or char[] is created for the rows so a very large map is only held in memory once, in its grid.
+ * The file is read in two passes, the first finds the dimensions of the map and the second decodes the tiles
+ */
+class MapLoader {
+    private static final long WINDOW_SIZE = 1L << 30;   // bytes mapped at a time, a single mapping is limited to 2GB
+
+    private final String mapName;
+    private final int goldRequired;
+    private final Grid grid;
+    private final int[] tileCounts = new int[Tile.values().length];  // number of each Tile, indexed by ordinal
+
+    /**
+     * Constructor for MapLoader, reads and decodes the map file
+     *
+     * @param filename the path to the map file
+     * @param gridType how the tiles are stored
+     * @throws Exception exception if the file cannot be read or if the map format is invalid
+     */
+    MapLoader(String filename, GridType gridType) throws Exception {
+        // catch exception if file cannot be read
+        try (FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.READ)) {
+            final MappedReader reader = new MappedReader(channel);
+
+            // read name header
+            final String nameLine = reader.readLine();
+            // ensure that the line starts with "name"
+            if (nameLine == null || !nameLine.startsWith("name")) {
+                throw new Exception("first line of map file must start with 'name', found: " + nameLine);
+            }
+            mapName = nameLine.length() > 5 ? nameLine.substring(5) : "";
+
+            // read win header
+            final String winLine = reader.readLine();
+            // ensure line starts with "win"
+            if (winLine == null || !winLine.startsWith("win")) {
+                throw new Exception("second line of map file must start with 'win', found: " + winLine);
+            }
+            //parse the remaining text into an integer to store the require amount of gold to win
+            goldRequired = Integer.parseInt(winLine.substring(4));
+
+            // first pass finds the dimensions, second pass decodes the tiles into the grid
+            final long tilesStart = reader.getPosition();
+            final int[] dimensions = readRows(reader, null, null);
+            reader.seek(tilesStart);
+            grid = gridType.create(dimensions[0], dimensions[1]);
+            readRows(reader, grid, tileCounts);
+        } catch (IOException e) {
+            throw new Exception("Unable to open file at path: " + filename);
+        }
+    }
+
+    /**
+     * Get the name of the map
+     *
+     * @return name of the map
+     */
+    String getMapName() {
+        return mapName;
+    }
+
+    /**
+     * Get the quantity of gold required to win
+     *
+     * @return quantity of gold to win
+     */
+    int getGoldRequired() {
+        return goldRequired;
+    }
+
+    /**
+     * Get the grid holding the decoded tiles
+     *
+     * @return grid of tiles
+     */
+    Grid getGrid() {
+        return grid;
+    }
+
+    /**
+     * Get the number of each Tile in the grid, counted while decoding
+     *
+     * @return number of each Tile, indexed by Tile ordinal
+     */
+    int[] getTileCounts() {
+        return tileCounts;
+    }
+
+    /**
+     * Read the rows of tiles up to the end of the file, checking the map is rectangular.
+     * Lines may end with \n, \r or \r\n, the last line does not need a line ending
+     *
+     * @param reader     reader positioned at the start of the first row
+     * @param grid       grid to decode the tiles into, or null to only find the dimensions
+     * @param tileCounts number of each Tile decoded, indexed by ordinal, or null to only find the dimensions
+     * @return number of rows and number of columns
+     * @throws Exception exception if the map is not rectangular
+     */
+    private static int[] readRows(MappedReader reader, Grid grid, int[] tileCounts) throws Exception {
+        int rowSize = 0;
+        int columnSize = -1;
+        int column = 0;
+        boolean afterCarriageReturn = false;
+        while (true) {
+            final int c = reader.read();
+            if (c == '\n' && afterCarriageReturn) {
+                // second half of a \r\n line ending
+                afterCarriageReturn = false;
+                continue;
+            }
+            afterCarriageReturn = c == '\r';
+            if (c == '\n' || c == '\r' || c == -1) {
+                // end of row, the end of the file only ends a row if the row is not empty
+                if (c != -1 || column > 0) {
+                    if (columnSize == -1) {
+                        columnSize = column;
+                    }
+                    // ensure all rows have same column size
+                    if (column != columnSize) {
+                        throw new Exception("map is not rectangular");
+                    }
+                    rowSize++;
+                    column = 0;
+                }
+                if (c == -1) {
+                    return new int[]{rowSize, Math.max(columnSize, 0)};
+                }
+            } else {
+                if (grid != null) {
+                    final Tile tile = Tile.readTile((char) c);
+                    grid.set(rowSize, column, tile);
+                    tileCounts[tile.ordinal()]++;
+                }
+                column++;
+            }
+        }
+    }
+
+    /**
+     * MappedReader class reads a file byte by byte through a window that is memory-mapped a section at a time
+     */
+    private static class MappedReader {
+        private final FileChannel channel;
+        private final long size;            // size of the file in bytes
+        private long windowStart;           // position in the file of the start of the current window
+        private MappedByteBuffer window;    // currently mapped section of the file, null until first read
+
+        /**
+         * Constructor for MappedReader, reading starts at the beginning of the file
+         *
+         * @param channel channel open for reading the file
+         * @throws IOException exception if the size of the file cannot be read
+         */
+        MappedReader(FileChannel channel) throws IOException {
+            this.channel = channel;
+            this.size = channel.size();
+        }
+
+        /**
+         * Read the next byte
+         *
+         * @return next byte as an unsigned value, or -1 at the end of the file
+         * @throws IOException exception if the file cannot be mapped
+         */
+        int read() throws IOException {
+            if (window == null || !window.hasRemaining()) {
+                final long position = window == null ? windowStart : windowStart + window.limit();
+                if (position >= size) {
+                    return -1;
+                }
+                windowStart = position;
+                window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(WINDOW_SIZE, size - position));
+            }
+            return window.get() & 0xFF;
+        }
+
+        /**
+         * Read bytes up to the next line ending and decode them as UTF-8
+         *
+         * @return the line without its line ending, or null at the end of the file
+         * @throws IOException exception if the file cannot be mapped
+         */
+        String readLine() throws IOException {
+            final ByteArrayOutputStream line = new ByteArrayOutputStream();
+            int c = read();
+            if (c == -1) {
+                return null;
+            }
+            while (c != -1 && c != '\n' && c != '\r') {
+                line.write(c);
+                c = read();
+            }
+            if (c == '\r') {
+                // skip the \n of a \r\n line ending
+                final long afterCarriageReturn = getPosition();
+                if (read() != '\n') {
+                    seek(afterCarriageReturn);
+                }
+            }
+            return line.toString(StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Get the position in the file of the next byte to be read
+         *
+         * @return position in bytes from the start of the file
+         */
+        long getPosition() {
+            return window == null ? windowStart : windowStart + window.position();
+        }
+
+        /**
+         * Move to a position in the file, the next read will map a new window starting at that position
+         *
+         * @param position position in bytes from the start of the file
+         */
+        void seek(long position) {
+            windowStart = position;
+            window = null;
+        }
+    }
+}
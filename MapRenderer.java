@@ -0,0 +1,85 @@
+import java.util.Optional;
+
+/**
+ * MapRenderer class draws the full map as text for trace mode. Each frame is built in one reused char buffer,
+ * players are drawn over their tiles by index and the frame is written to the stream with a single print,
+ * so drawing a large map does not make a print call or allocate a Position for every cell
+ */
+public class MapRenderer {
+    private static final String LINE_SEPARATOR = System.lineSeparator();   // ends each line as println would
+    private static final char[] LINE_SEPARATOR_CHARS = LINE_SEPARATOR.toCharArray();
+
+    private final char[] glyphs;    // character of each tile, indexed by Tile ordinal
+    private char[] frame;           // the last frame drawn, header then one line per row
+    private int headerLength;       // length of the "name" and "win" lines at the start of the frame
+
+    /**
+     * Constructor for MapRenderer
+     */
+    public MapRenderer() {
+        final Tile[] tiles = Tile.values();
+        glyphs = new char[tiles.length];
+        for (Tile tile : tiles) {
+            glyphs[tile.ordinal()] = tile.getCharacter();
+        }
+    }
+
+    /**
+     * Draw a frame of the map and print it, optionally showing players' positions.
+     * The frame has the same layout as the map file: the name and win lines followed by a line for each row
+     *
+     * @param map     map to draw
+     * @param player1 optional first player to display
+     * @param player2 optional second player to display, the first player is drawn on top if they share a tile
+     * @param out     sink to print the frame to, it is flushed after the frame
+     */
+    public void render(Map map, Optional<Player> player1, Optional<Player> player2, OutputSink out) {
+        if (!out.isEnabled()) {
+            return;
+        }
+        final Grid grid = map.getGrid();
+        final int rowSize = grid.getRowSize();
+        final int columnSize = grid.getColumnSize();
+        final String header = "name " + map.getMapName() + LINE_SEPARATOR + "win " + map.getGoldRequired() + LINE_SEPARATOR;
+        final int lineLength = columnSize + LINE_SEPARATOR_CHARS.length;
+        final int length = header.length() + rowSize * lineLength;
+        if (frame == null || frame.length != length) {
+            frame = new char[length];
+        }
+        header.getChars(0, header.length(), frame, 0);
+        headerLength = header.length();
+
+        int index = headerLength;
+        for (int i = 0; i < rowSize; i++) {
+            for (int j = 0; j < columnSize; j++) {
+                frame[index++] = glyphs[grid.get(i, j).ordinal()];
+            }
+            for (char c : LINE_SEPARATOR_CHARS) {
+                frame[index++] = c;
+            }
+        }
+
+        // draw the second player first so the first player is on top
+        player2.ifPresent(player -> drawPlayer(player, rowSize, columnSize, lineLength));
+        player1.ifPresent(player -> drawPlayer(player, rowSize, columnSize, lineLength));
+
+        out.print(frame);
+        out.flush();
+    }
+
+    /**
+     * Draw a player's tile over the tile at its position
+     *
+     * @param player     player to draw
+     * @param rowSize    number of rows in the map
+     * @param columnSize number of columns in the map
+     * @param lineLength number of characters of a row in the frame, including the line separator
+     */
+    private void drawPlayer(Player player, int rowSize, int columnSize, int lineLength) {
+        final int row = player.getPosition().getRow();
+        final int column = player.getPosition().getColumn();
+        if (row >= 0 && row < rowSize && column >= 0 && column < columnSize) {
+            frame[headerLength + row * lineLength + column] = glyphs[player.getTile().ordinal()];
+        }
+    }
+}
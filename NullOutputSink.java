@@ -0,0 +1,29 @@
+/**
+ * NullOutputSink class discards everything printed to it, headless games use it so they do no I/O
+ */
+public final class NullOutputSink implements OutputSink {
+    static final NullOutputSink INSTANCE = new NullOutputSink();
+
+    /**
+     * The single NullOutputSink is OutputSink.discard()
+     */
+    private NullOutputSink() {
+    }
+
+    @Override
+    public void print(String text) {
+    }
+
+    @Override
+    public void print(char[] text) {
+    }
+
+    @Override
+    public void println(String line) {
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+}
@@ -0,0 +1,85 @@
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+
+/**
+ * OutputSink interface represents where the text printed by a game goes: the console, a file, memory or nowhere.
+ * All game output is printed to the session's sink, so games played together in one JVM do not share System.out
+ * and a headless game can discard its output without building the text
+ */
+public interface OutputSink extends AutoCloseable {
+    /**
+     * Print text without a line terminator
+     *
+     * @param text text to print
+     */
+    void print(String text);
+
+    /**
+     * Print characters without a line terminator, eg a frame of the full map
+     *
+     * @param text characters to print
+     */
+    void print(char[] text);
+
+    /**
+     * Print a line of text followed by a line terminator
+     *
+     * @param line line to print
+     */
+    void println(String line);
+
+    /**
+     * Check whether printed text is kept, callers can skip building text that would be discarded
+     *
+     * @return flag indicating whether the sink keeps what is printed
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Write out any text held in a buffer
+     */
+    default void flush() {
+    }
+
+    /**
+     * Flush and close the sink, a sink printing to the console leaves it open
+     */
+    @Override
+    default void close() {
+    }
+
+    /**
+     * Create a sink printing to the console
+     *
+     * @return sink printing to System.out
+     */
+    static OutputSink console() {
+        return new PrintStreamOutputSink(System.out, false);
+    }
+
+    /**
+     * Create a sink writing to a file through a large buffer, the text is only certain to be written once it is closed
+     *
+     * @param filename the path to the file, it is replaced if it exists
+     * @return sink writing to the file
+     * @throws IOException exception if the file cannot be created
+     */
+    static OutputSink file(String filename) throws IOException {
+        final BufferedOutputStream stream = new BufferedOutputStream(new FileOutputStream(filename), 1 << 16);
+        return new PrintStreamOutputSink(new PrintStream(stream, false, Charset.defaultCharset()), true);
+    }
+
+    /**
+     * Get the sink that discards everything
+     *
+     * @return sink that keeps nothing
+     */
+    static OutputSink discard() {
+        return NullOutputSink.INSTANCE;
+    }
+}
@@ -0,0 +1,298 @@
+import java.util.Arrays;
+
+/**
+ * PathFinder class finds the shortest sequence of moves between two cells of a Grid using breadth first search.
+ * Every move costs one turn so breadth first search finds a shortest path without the priority queue A* would need.
+ * A cell can be entered unless it is a WALL or unknown (null), the start cell is always allowed.
+ * The search buffers are kept between calls and only grow, so planning does not allocate once they are large enough.
+ * On grids up to DENSE_CELL_LIMIT cells the search marks cells in arrays the size of the grid, on larger grids
+ * (eg planning over a whole large map) it records the cells it reaches in an IntIntMap keyed by cell index,
+ * so the memory used grows with the area searched rather than the size of the grid
+ */
+public class PathFinder {
+    // directions are tried in this order, which matches the preference of the original greedy planner
+    private static final Direction[] DIRECTIONS = {Direction.NORTH, Direction.SOUTH, Direction.WEST, Direction.EAST};
+    private static final int[] ROW_STEPS = {-1, 1, 0, 0};       // change in row for each of DIRECTIONS
+    private static final int[] COLUMN_STEPS = {0, 0, -1, 1};    // change in column for each of DIRECTIONS
+    private static final long DENSE_CELL_LIMIT = 1 << 20;       // largest grid searched with arrays the size of the grid
+    private static final int START = -1;        // came from value of the start cell in the sparse search
+    private static final int MINIMUM_QUEUE = 64;    // initial size of the queue
+
+    private int[] queueRows = new int[MINIMUM_QUEUE];       // rows of the cells waiting to be expanded
+    private int[] queueColumns = new int[MINIMUM_QUEUE];    // columns of the cells waiting to be expanded
+    private int[] visitedSearch = new int[0];   // number of the search that last visited each cell
+    private byte[] cameFrom = new byte[0];      // index in DIRECTIONS of the move that reached each cell
+    private final IntIntMap sparseCameFrom = new IntIntMap();  // index in DIRECTIONS for each cell reached, sparse search
+    private boolean sparse;                     // whether the current search uses sparseCameFrom
+    private Direction[] path = new Direction[0];    // moves of the last path found, in order
+    private int search;                         // number of the current search, avoids clearing visitedSearch
+
+    /**
+     * Find the shortest path from the start cell to the goal cell. If the goal can not be reached the path leads to
+     * the reachable cell nearest to the goal (by Manhattan distance), so the bot gets as close as possible
+     *
+     * @param grid        grid to search
+     * @param startRow    row of the start cell
+     * @param startColumn column of the start cell
+     * @param goalRow     row of the goal cell
+     * @param goalColumn  column of the goal cell
+     * @return number of moves in the path, read them with getMove
+     */
+    public int findPath(Grid grid, int startRow, int startColumn, int goalRow, int goalColumn) {
+        final int rowSize = grid.getRowSize();
+        final int columnSize = grid.getColumnSize();
+        final int start = startSearch(rowSize, columnSize, startRow, startColumn);
+        int head = 0;
+        int tail = 1;
+        int best = start;                       // reachable cell nearest to the goal found so far
+        int bestDistance = Math.abs(startRow - goalRow) + Math.abs(startColumn - goalColumn);
+
+        while (head < tail && bestDistance > 0) {
+            final int row = queueRows[head];
+            final int column = queueColumns[head++];
+            for (int i = 0; i < DIRECTIONS.length; i++) {
+                final int nextRow = row + ROW_STEPS[i];
+                final int nextColumn = column + COLUMN_STEPS[i];
+                if (nextRow < 0 || nextRow >= rowSize || nextColumn < 0 || nextColumn >= columnSize) {
+                    continue;
+                }
+                final int next = nextRow * columnSize + nextColumn;
+                if (isVisited(next) || !isPassable(grid.get(nextRow, nextColumn))) {
+                    continue;
+                }
+                visit(next, i);
+                enqueue(tail++, nextRow, nextColumn);
+                // cells are found in order of path length so a later cell only wins if it is strictly nearer
+                final int distance = Math.abs(nextRow - goalRow) + Math.abs(nextColumn - goalColumn);
+                if (distance < bestDistance) {
+                    best = next;
+                    bestDistance = distance;
+                }
+            }
+        }
+        return buildPath(start, best, columnSize);
+    }
+
+    /**
+     * Find the shortest path from the start cell to the nearest cell holding the target tile
+     *
+     * @param grid        grid to search
+     * @param startRow    row of the start cell
+     * @param startColumn column of the start cell
+     * @param target      tile to find
+     * @return number of moves in the path, read them with getMove, or -1 if no target tile can be reached
+     */
+    public int findPathToNearest(Grid grid, int startRow, int startColumn, Tile target) {
+        return findPathToNearest(grid, startRow, startColumn, target, null);
+    }
+
+    /**
+     * Find the shortest path from the start cell to the nearest cell on the frontier of the explored area,
+     * ie a cell that can be entered next to a cell that has not been seen
+     *
+     * @param exploredMap explored map to search
+     * @param startRow    row of the start cell
+     * @param startColumn column of the start cell
+     * @return number of moves in the path, read them with getMove, or -1 if no frontier cell can be reached
+     */
+    public int findPathToFrontier(ExploredMap exploredMap, int startRow, int startColumn) {
+        return findPathToNearest(exploredMap, startRow, startColumn, null, exploredMap);
+    }
+
+    /**
+     * Breadth first search for the nearest cell that holds the target tile or is on the frontier of an explored map
+     *
+     * @param grid        grid to search
+     * @param startRow    row of the start cell
+     * @param startColumn column of the start cell
+     * @param target      tile to find, not used when searching for the frontier
+     * @param exploredMap explored map whose frontier is searched for, or null to search for the target tile
+     * @return number of moves in the path, or -1 if no cell is found
+     */
+    private int findPathToNearest(Grid grid, int startRow, int startColumn, Tile target, ExploredMap exploredMap) {
+        final int rowSize = grid.getRowSize();
+        final int columnSize = grid.getColumnSize();
+        final int start = startSearch(rowSize, columnSize, startRow, startColumn);
+        int head = 0;
+        int tail = 1;
+
+        while (head < tail) {
+            final int row = queueRows[head];
+            final int column = queueColumns[head++];
+            final boolean found = exploredMap != null ? exploredMap.isFrontier(row, column) : grid.get(row, column) == target;
+            if (found) {
+                return buildPath(start, row * columnSize + column, columnSize);
+            }
+            for (int i = 0; i < DIRECTIONS.length; i++) {
+                final int nextRow = row + ROW_STEPS[i];
+                final int nextColumn = column + COLUMN_STEPS[i];
+                if (nextRow < 0 || nextRow >= rowSize || nextColumn < 0 || nextColumn >= columnSize) {
+                    continue;
+                }
+                final int next = nextRow * columnSize + nextColumn;
+                if (isVisited(next) || !isPassable(grid.get(nextRow, nextColumn))) {
+                    continue;
+                }
+                visit(next, i);
+                enqueue(tail++, nextRow, nextColumn);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Get a move of the last path found
+     *
+     * @param index index of the move, from 0 to the path length - 1
+     * @return direction of the move
+     */
+    public Direction getMove(int index) {
+        return path[index];
+    }
+
+    /**
+     * Check if a tile can be entered
+     *
+     * @param tile tile to check, null for unknown or outside the map
+     * @return flag indicating whether the tile can be entered
+     */
+    static boolean isPassable(Tile tile) {
+        return tile != null && tile != Tile.WALL;
+    }
+
+    /**
+     * Walk back from the end cell to the start cell to fill the path buffer
+     *
+     * @param start      start cell
+     * @param end        end cell
+     * @param columnSize number of columns in the grid
+     * @return number of moves in the path
+     */
+    private int buildPath(int start, int end, int columnSize) {
+        // count the moves first so the path can be written in order
+        int length = 0;
+        for (int cell = end; cell != start; length++) {
+            cell = previousCell(cell, columnSize);
+        }
+        if (path.length < length) {
+            path = new Direction[Math.max(length, path.length * 2)];
+        }
+        int index = length;
+        for (int cell = end; cell != start; cell = previousCell(cell, columnSize)) {
+            path[--index] = DIRECTIONS[getCameFrom(cell)];
+        }
+        return length;
+    }
+
+    /**
+     * Get the cell that a cell on the search tree was reached from
+     *
+     * @param cell       cell reached
+     * @param columnSize number of columns in the grid
+     * @return cell it was reached from
+     */
+    private int previousCell(int cell, int columnSize) {
+        final int move = getCameFrom(cell);
+        return cell - ROW_STEPS[move] * columnSize - COLUMN_STEPS[move];
+    }
+
+    /**
+     * Start a new search from the start cell, choosing dense or sparse search state for the size of the grid
+     *
+     * @param rowSize     number of rows in the grid
+     * @param columnSize  number of columns in the grid
+     * @param startRow    row of the start cell
+     * @param startColumn column of the start cell
+     * @return start cell, the start cell is marked visited and is the first cell in the queue
+     */
+    private int startSearch(int rowSize, int columnSize, int startRow, int startColumn) {
+        final long cellCount = (long) rowSize * columnSize;
+        sparse = cellCount > DENSE_CELL_LIMIT;
+        final int start = startRow * columnSize + startColumn;
+        if (sparse) {
+            sparseCameFrom.clear();
+            sparseCameFrom.put(start, START);
+        } else {
+            ensureCapacity((int) cellCount);
+            nextSearch();
+            visitedSearch[start] = search;
+        }
+        enqueue(0, startRow, startColumn);
+        return start;
+    }
+
+    /**
+     * Check if a cell has been reached by the current search
+     *
+     * @param cell cell index
+     * @return flag indicating whether the cell has been reached
+     */
+    private boolean isVisited(int cell) {
+        return sparse ? sparseCameFrom.containsKey(cell) : visitedSearch[cell] == search;
+    }
+
+    /**
+     * Mark a cell as reached by the current search
+     *
+     * @param cell cell index
+     * @param move index in DIRECTIONS of the move that reached the cell
+     */
+    private void visit(int cell, int move) {
+        if (sparse) {
+            sparseCameFrom.put(cell, move);
+        } else {
+            visitedSearch[cell] = search;
+            cameFrom[cell] = (byte) move;
+        }
+    }
+
+    /**
+     * Get the move that reached a cell in the current search
+     *
+     * @param cell cell index, a cell reached by the search other than the start cell
+     * @return index in DIRECTIONS of the move
+     */
+    private int getCameFrom(int cell) {
+        return sparse ? sparseCameFrom.get(cell, START) : cameFrom[cell];
+    }
+
+    /**
+     * Put a cell in the queue, growing the queue if it is full
+     *
+     * @param index  position in the queue
+     * @param row    row of the cell
+     * @param column column of the cell
+     */
+    private void enqueue(int index, int row, int column) {
+        if (index == queueRows.length) {
+            queueRows = Arrays.copyOf(queueRows, index * 2);
+            queueColumns = Arrays.copyOf(queueColumns, index * 2);
+        }
+        queueRows[index] = row;
+        queueColumns[index] = column;
+    }
+
+    /**
+     * Grow the dense search buffers if they are smaller than the grid
+     *
+     * @param cellCount number of cells in the grid
+     */
+    private void ensureCapacity(int cellCount) {
+        if (visitedSearch.length < cellCount) {
+            final int capacity = Math.max(cellCount, visitedSearch.length * 2);
+            visitedSearch = new int[capacity];
+            cameFrom = new byte[capacity];
+            search = 0;
+        }
+    }
+
+    /**
+     * Start a new search, the visited marks of earlier searches are ignored without clearing them
+     */
+    private void nextSearch() {
+        if (++search == Integer.MAX_VALUE) {
+            Arrays.fill(visitedSearch, 0);
+            search = 1;
+        }
+    }
+}
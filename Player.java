@@ -2,9 +2,10 @@
  * Player class represents a generic player, the class is abstract, to be extended by specific player types (eg human player, bot player)
  */
 public abstract class Player {
-    private final Position position;    // current position on the map
+    private Position position;          // current position on the map
     private final Tile tile;            // tile representing player on the map
     private int goldOwned;              // quantity of gold owned
+    private OutputSink output;          // where responses and trace are printed
 
     /**
      * Constructor for Player class
@@ -17,6 +18,7 @@ public abstract class Player {
         this.position = position;
         this.tile = tile;
         this.goldOwned = 0;     // player starts no gold
+        this.output = OutputSink.console();
     }
 
     /**
@@ -28,6 +30,33 @@ public abstract class Player {
         return position;
     }
 
+    /**
+     * Set position of player on map, eg after a successful move
+     *
+     * @param position new position of player on map
+     */
+    void setPosition(Position position) {
+        this.position = position;
+    }
+
+    /**
+     * Get the sink the player prints responses and trace to
+     *
+     * @return output sink, the console unless set by the game
+     */
+    OutputSink getOutput() {
+        return output;
+    }
+
+    /**
+     * Set the sink the player prints responses and trace to
+     *
+     * @param output output sink
+     */
+    void setOutput(OutputSink output) {
+        this.output = output;
+    }
+
     /**
      * Get the quantity of gold the player owns
      *
@@ -56,21 +85,30 @@ public abstract class Player {
     }
 
     /**
-     * Handle response from HELLO command, by default print response message to console
+     * Handle response from HELLO command, by default print response message to the player's output
      *
      * @param message string returned by Hello command
      */
     void handleHello(String message) {
-        System.out.println(message);
+        output.println(message);
     }
 
     /**
-     * Handle response from LOOK command, by default print response map to console
+     * Handle response from LOOK command, by default print response map to the player's output
      *
-     * @param localMap map returned by LOOK command
+     * @param localMap map returned by LOOK command, the array is reused by the game so it must not be kept
      */
     void handleLook(Tile[][] localMap) {
-        Map.printMap(localMap);
+        Map.printMap(localMap, output);
+    }
+
+    /**
+     * Handle response from MOVE command, by default nothing is done as the response is printed by the game
+     *
+     * @param direction direction of the move
+     * @param success   flag indicating whether the move succeeded
+     */
+    void handleMove(Direction direction, boolean success) {
     }
 
     /**
@@ -1,9 +1,12 @@
 /**
- * Position class represents a location using row and column coordinates, it also provides methods for changing and comparing position
+ * Position class represents a location using row and column coordinates, it also provides methods for moving and comparing positions.
+ * A Position is immutable, the row and column are packed into a single long which can also be used on its own
+ * (eg as a key of a primitive map) through the static pack, rowOf and columnOf methods
  */
-public class Position {
-    private int row;        // the row number of the position
-    private int column;     // the column number of the position
+public final class Position {
+    private static final long COLUMN_MASK = 0xFFFF_FFFFL;      // low 32 bits of a packed position hold the column
+
+    private final long packed;  // row in the high 32 bits, column in the low 32 bits
 
     /**
      * Constructor for Position, initialise with specified row and column number
@@ -12,87 +15,85 @@ public class Position {
      * @param column column number (zero based)
      */
     public Position(int row, int column) {
-        this.row = row;
-        this.column = column;
+        this.packed = pack(row, column);
     }
 
     /**
-     * Copy constructor for Position, create a new Position object from an existing object
+     * Pack a row and column into a long, the packed values of two positions are equal only if the positions are equal
      *
-     * @param position Position os object to copy
+     * @param row    row number
+     * @param column column number
+     * @return packed position
      */
-    public Position(Position position) {
-        this.row = position.getRow();
-        this.column = position.getColumn();
+    public static long pack(int row, int column) {
+        return ((long) row << 32) | (column & COLUMN_MASK);
     }
 
     /**
-     * Update Position with specified row and column values
+     * Get the row of a packed position
      *
-     * @param position new Position
+     * @param packed packed position
+     * @return row number
      */
-    //
-    public void setPosition(Position position) {
-        this.row = position.getRow();
-        this.column = position.getColumn();
+    public static int rowOf(long packed) {
+        return (int) (packed >> 32);
     }
 
     /**
-     * Get row value of Position
+     * Get the column of a packed position
      *
-     * @return row value
+     * @param packed packed position
+     * @return column number
      */
-    public int getRow() {
-        return row;
+    public static int columnOf(long packed) {
+        return (int) packed;
     }
 
     /**
-     * Get column value of Position
+     * Mix the bits of a packed position into a hash code, so positions close to each other get very different hash codes
      *
-     * @return column value
+     * @param packed packed position
+     * @return hash code
      */
-    public int getColumn() {
-        return column;
+    public static int hash(long packed) {
+        return HashTables.mix(packed);
     }
 
     /**
-     * Increment row value of Position
+     * Get row value of Position
      *
-     * @return new Position after increment of row
+     * @return row value
      */
-    public Position incrementRow() {
-        this.row++;
-        return this;
+    public int getRow() {
+        return rowOf(packed);
     }
 
     /**
-     * Decrement row value of Position
+     * Get column value of Position
      *
-     * @return new Position after decrement of row
+     * @return column value
      */
-    public Position decrementRow() {
-        this.row--;
-        return this;
+    public int getColumn() {
+        return columnOf(packed);
     }
 
     /**
-     * Increment column value of Position
+     * Get the row and column packed into a long
      *
-     * @return new Position after increment of column
+     * @return packed position
      */
-    public Position incrementColumn() {
-        this.column++;
-        return this;
+    public long getPacked() {
+        return packed;
     }
 
     /**
-     * Decrement column value of Position
+     * Get the next Position in a direction
      *
-     * @return new Position after decrement of column
+     * @param direction direction to move in
+     * @return new Position one step away in the direction
      */
-    public Position decrementColumn() {
-        this.column--;
-        return this;
+    public Position move(Direction direction) {
+        return new Position(getRow() + direction.getRowStep(), getColumn() + direction.getColumnStep());
     }
 
     /**
@@ -102,7 +103,7 @@ public class Position {
      */
     @Override
     public String toString() {
-        return "row=" + row + " column=" + column;
+        return "row=" + getRow() + " column=" + getColumn();
     }
 
     /**
@@ -111,14 +112,10 @@ public class Position {
      * @param obj other object to compare with
      * @return boolean for is equal or not
      */
-    //
     @Override
     public boolean equals(Object obj) {
-        if (obj instanceof Position other) {   // check object is an instance of Position
-            // test for equality by comparing the row and column values of both positions, return true if both match otherwise false
-            return other.getRow() == this.row && other.getColumn() == this.column;
-        }
-        return false;
+        // positions are equal if their rows and columns match, which is when their packed values match
+        return obj instanceof Position other && other.packed == this.packed;
     }
 
     /**
@@ -126,10 +123,8 @@ public class Position {
      *
      * @return hashcode value for object
      */
-    //
     @Override
     public int hashCode() {
-        // generate a hash code based on row and column values
-        return row + column;
+        return hash(packed);
     }
 }
@@ -0,0 +1,49 @@
+import java.io.PrintStream;
+
+/**
+ * PrintStreamOutputSink class prints to a PrintStream, either the console or a buffered file
+ */
+public class PrintStreamOutputSink implements OutputSink {
+    private final PrintStream out;
+    private final boolean closeStream;  // whether closing the sink closes the stream
+
+    /**
+     * Constructor for PrintStreamOutputSink
+     *
+     * @param out         stream to print to
+     * @param closeStream flag indicating whether closing the sink closes the stream
+     */
+    PrintStreamOutputSink(PrintStream out, boolean closeStream) {
+        this.out = out;
+        this.closeStream = closeStream;
+    }
+
+    @Override
+    public void print(String text) {
+        out.print(text);
+    }
+
+    @Override
+    public void print(char[] text) {
+        out.print(text);
+    }
+
+    @Override
+    public void println(String line) {
+        out.println(line);
+    }
+
+    @Override
+    public void flush() {
+        out.flush();
+    }
+
+    @Override
+    public void close() {
+        if (closeStream) {
+            out.close();
+        } else {
+            out.flush();
+        }
+    }
+}
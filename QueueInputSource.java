@@ -0,0 +1,22 @@
+import java.util.Queue;
+
+/**
+ * QueueInputSource class takes lines from a queue in memory, eg commands generated by a test harness
+ */
+public class QueueInputSource implements InputSource {
+    private final Queue<String> lines;
+
+    /**
+     * Constructor for QueueInputSource
+     *
+     * @param lines queue of lines, the input ends when it is empty
+     */
+    QueueInputSource(Queue<String> lines) {
+        this.lines = lines;
+    }
+
+    @Override
+    public String nextLine() {
+        return lines.poll();
+    }
+}
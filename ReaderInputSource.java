@@ -0,0 +1,48 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+
+/**
+ * ReaderInputSource class reads lines from a stream (the console or a file) through a single large buffer,
+ * so a script piped to the game is read in blocks rather than a line at a time
+ */
+public class ReaderInputSource implements InputSource {
+    private static final int BUFFER_SIZE = 1 << 16;    // characters read from the stream at a time
+
+    private final BufferedReader reader;
+    private final boolean closeStream;  // whether closing the source closes the stream
+
+    /**
+     * Constructor for ReaderInputSource, the stream is decoded with the platform charset as the console is
+     *
+     * @param in          stream to read
+     * @param closeStream flag indicating whether closing the source closes the stream
+     */
+    ReaderInputSource(InputStream in, boolean closeStream) {
+        this.reader = new BufferedReader(new InputStreamReader(in, Charset.defaultCharset()), BUFFER_SIZE);
+        this.closeStream = closeStream;
+    }
+
+    @Override
+    public String nextLine() {
+        try {
+            return reader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closeStream) {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,253 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/**
+ * Replay class holds everything needed to play a game again and check it ends the same way: the seed of the
+ * game's random numbers, a hash of the map, the commands of both players and the final state of the game.
+ * The commands are stored as CommandStreams so a replay takes a few bytes per turn. The file format is:
+ * magic number 'DODR' (4 bytes), format version (1 byte), seed (long), map hash (long), game mode ordinal (byte),
+ * outcome ordinal (byte), turns (int), human position (packed long), bot position (packed long), human gold (int),
+ * bot gold (int), then the human and bot command streams, each as a length (int) followed by its bytes
+ */
+public class Replay {
+    private static final int MAGIC = 0x444F4452;    // 'DODR' identifies a replay file
+    private static final int VERSION = 1;
+    private static final GameMode[] GAME_MODES = GameMode.values();
+    private static final GameOutcome[] OUTCOMES = GameOutcome.values();
+
+    private final long seed;
+    private final long mapHash;
+    private final GameMode gameMode;
+    private final GameOutcome outcome;
+    private final int turns;                // number of turns played
+    private final long humanPosition;       // packed final position of the human player
+    private final long botPosition;         // packed final position of the bot
+    private final int humanGold;
+    private final int botGold;
+    private final byte[] humanCommands;     // encoded CommandStream of the human player, empty in BOT_TEST mode
+    private final byte[] botCommands;       // encoded CommandStream of the bot
+
+    /**
+     * Constructor for Replay, replays are created by a ReplayRecorder or loaded from a file
+     *
+     * @param seed          seed of the game's random numbers
+     * @param mapHash       content hash of the map played on
+     * @param gameMode      game mode
+     * @param outcome       how the game finished
+     * @param turns         number of turns played
+     * @param humanPosition packed final position of the human player
+     * @param botPosition   packed final position of the bot
+     * @param humanGold     gold owned by the human player at the end
+     * @param botGold       gold owned by the bot at the end
+     * @param humanCommands encoded commands of the human player
+     * @param botCommands   encoded commands of the bot
+     */
+    Replay(long seed, long mapHash, GameMode gameMode, GameOutcome outcome, int turns, long humanPosition,
+           long botPosition, int humanGold, int botGold, byte[] humanCommands, byte[] botCommands) {
+        this.seed = seed;
+        this.mapHash = mapHash;
+        this.gameMode = gameMode;
+        this.outcome = outcome;
+        this.turns = turns;
+        this.humanPosition = humanPosition;
+        this.botPosition = botPosition;
+        this.humanGold = humanGold;
+        this.botGold = botGold;
+        this.humanCommands = humanCommands;
+        this.botCommands = botCommands;
+    }
+
+    /**
+     * Load a replay from a replay file
+     *
+     * @param filename the path to the replay file
+     * @return the loaded replay
+     * @throws Exception exception if the file cannot be read or is not a valid replay
+     */
+    public static Replay load(String filename) throws Exception {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(filename)))) {
+            if (in.readInt() != MAGIC) {
+                throw new Exception("not a replay file: " + filename);
+            }
+            final int version = in.readUnsignedByte();
+            if (version != VERSION) {
+                throw new Exception("unsupported replay version: " + version);
+            }
+            final long seed = in.readLong();
+            final long mapHash = in.readLong();
+            final int gameMode = in.readUnsignedByte();
+            final int outcome = in.readUnsignedByte();
+            if (gameMode >= GAME_MODES.length || outcome >= OUTCOMES.length) {
+                throw new Exception("invalid replay header: " + filename);
+            }
+            final int turns = in.readInt();
+            if (turns < 0) {
+                throw new Exception("invalid replay turns: " + turns);
+            }
+            final long humanPosition = in.readLong();
+            final long botPosition = in.readLong();
+            final int humanGold = in.readInt();
+            final int botGold = in.readInt();
+            final byte[] humanCommands = readStream(in);
+            final byte[] botCommands = readStream(in);
+            return new Replay(seed, mapHash, GAME_MODES[gameMode], OUTCOMES[outcome], turns, humanPosition,
+                    botPosition, humanGold, botGold, humanCommands, botCommands);
+        } catch (IOException e) {
+            throw new Exception("Unable to read replay file: " + filename);
+        }
+    }
+
+    /**
+     * Read a length prefixed command stream
+     *
+     * @param in stream to read from
+     * @return encoded command stream
+     * @throws IOException exception if the stream cannot be read or is truncated
+     */
+    private static byte[] readStream(DataInputStream in) throws IOException {
+        final int length = in.readInt();
+        if (length < 0) {
+            throw new IOException("invalid command stream length: " + length);
+        }
+        final byte[] bytes = in.readNBytes(length);
+        if (bytes.length != length) {
+            throw new IOException("replay file is truncated");
+        }
+        return bytes;
+    }
+
+    /**
+     * Save the replay to a replay file
+     *
+     * @param filename the path to the replay file
+     * @throws IOException exception if the file cannot be written
+     */
+    public void save(String filename) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(filename)))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeLong(seed);
+            out.writeLong(mapHash);
+            out.writeByte(gameMode.ordinal());
+            out.writeByte(outcome.ordinal());
+            out.writeInt(turns);
+            out.writeLong(humanPosition);
+            out.writeLong(botPosition);
+            out.writeInt(humanGold);
+            out.writeInt(botGold);
+            out.writeInt(humanCommands.length);
+            out.write(humanCommands);
+            out.writeInt(botCommands.length);
+            out.write(botCommands);
+        }
+    }
+
+    /**
+     * Compare the final state of this replay with another, eg the replay recorded when playing this one again
+     *
+     * @param other replay to compare with
+     * @return description of the first difference, or null if the games ended the same way
+     */
+    public String findDifference(Replay other) {
+        if (outcome != other.outcome) {
+            return "outcome " + outcome + " != " + other.outcome;
+        }
+        if (turns != other.turns) {
+            return "turns " + turns + " != " + other.turns;
+        }
+        if (humanPosition != other.humanPosition) {
+            return "human position " + new Position(Position.rowOf(humanPosition), Position.columnOf(humanPosition))
+                    + " != " + new Position(Position.rowOf(other.humanPosition), Position.columnOf(other.humanPosition));
+        }
+        if (botPosition != other.botPosition) {
+            return "bot position " + new Position(Position.rowOf(botPosition), Position.columnOf(botPosition))
+                    + " != " + new Position(Position.rowOf(other.botPosition), Position.columnOf(other.botPosition));
+        }
+        if (humanGold != other.humanGold) {
+            return "human gold " + humanGold + " != " + other.humanGold;
+        }
+        if (botGold != other.botGold) {
+            return "bot gold " + botGold + " != " + other.botGold;
+        }
+        return null;
+    }
+
+    /**
+     * Get the seed of the game's random numbers
+     *
+     * @return seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Get the content hash of the map the game was played on
+     *
+     * @return map hash, see Map.getContentHash
+     */
+    public long getMapHash() {
+        return mapHash;
+    }
+
+    /**
+     * Get the game mode
+     *
+     * @return game mode
+     */
+    public GameMode getGameMode() {
+        return gameMode;
+    }
+
+    /**
+     * Get how the game finished
+     *
+     * @return outcome of the game
+     */
+    public GameOutcome getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * Get the number of turns played
+     *
+     * @return number of turns
+     */
+    public int getTurns() {
+        return turns;
+    }
+
+    /**
+     * Get the encoded commands of the human player
+     *
+     * @return encoded CommandStream, empty in BOT_TEST mode
+     */
+    public byte[] getHumanCommands() {
+        return humanCommands.clone();
+    }
+
+    /**
+     * Get the encoded commands of the bot
+     *
+     * @return encoded CommandStream
+     */
+    public byte[] getBotCommands() {
+        return botCommands.clone();
+    }
+
+    /**
+     * String representation of Replay
+     *
+     * @return string summarising the game
+     */
+    @Override
+    public String toString() {
+        return gameMode + " game with seed " + seed + ": " + outcome + " after " + turns + " turns, "
+                + (humanCommands.length + botCommands.length) + " bytes of commands";
+    }
+}
@@ -0,0 +1,105 @@
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.SplittableRandom;
+
+/**
+ * ReplayPlayer class plays a recorded game again and checks it ends the same way. The session is created with the
+ * recorded seed, the human player's commands are fed in from the replay and every command goes through
+ * GameSession.processCommand as in the original game, so any change to the game or the bot that changes the result
+ * is found
+ */
+public class ReplayPlayer {
+
+    /**
+     * Main plays a replay file again on the map it was recorded on
+     *
+     * @param args command line arguments: replay file, map file
+     */
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.out.println("Usage: java ReplayPlayer <replay file> <map file>");
+            return;
+        }
+        try {
+            final Replay replay = Replay.load(args[0]);
+            play(replay, Map.load(args[1], GridType.BYTE), OutputSink.discard());
+            System.out.println("Replay matches: " + replay);
+        } catch (Exception e) {
+            System.out.println("Error: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Play a replay again and check the commands and final state match the recording
+     *
+     * @param replay replay to play
+     * @param map    map the replay was recorded on
+     * @param out    sink the game's output is printed to
+     * @return replay recorded while playing again, equal to the one played
+     * @throws Exception exception if the map is not the one recorded on, or if the game played differently
+     */
+    public static Replay play(Replay replay, Map map, OutputSink out) throws Exception {
+        if (map.getContentHash() != replay.getMapHash()) {
+            throw new Exception("Replay was recorded on a different map");
+        }
+        final List<Command> humanCommands = CommandStream.decode(replay.getHumanCommands(), replay.getTurns());
+        final Queue<String> humanLines = new ArrayDeque<>(humanCommands.size());
+        for (Command command : humanCommands) {
+            humanLines.add(command.getText());
+        }
+        final GameSession session = new GameSession(map, replay.getGameMode(), false,
+                new SplittableRandom(replay.getSeed()), out, InputSource.queue(humanLines));
+        final ReplayRecorder recorder = new ReplayRecorder(replay.getSeed(), map, replay.getGameMode());
+        session.setRecorder(recorder);
+        while (session.getTurn() < replay.getTurns() && session.playTurn()) {
+            // keep taking turns until the game is over or every recorded turn has been played
+        }
+        final Replay result = recorder.finish(session);
+
+        // the bot's commands show where the game first went differently
+        final List<Command> botCommands = CommandStream.decode(replay.getBotCommands(), replay.getTurns());
+        final List<Command> replayedBotCommands = CommandStream.decode(result.getBotCommands(), result.getTurns());
+        final int divergence = firstDifference(botCommands, replayedBotCommands);
+        if (divergence >= 0) {
+            throw new Exception("Replay mismatch: bot command " + (divergence + 1) + " was "
+                    + describe(replayedBotCommands, divergence) + ", recorded " + describe(botCommands, divergence));
+        }
+        if (firstDifference(humanCommands, CommandStream.decode(result.getHumanCommands(), result.getTurns())) >= 0) {
+            throw new Exception("Replay mismatch: human player's game ended after a different number of commands");
+        }
+        final String difference = replay.findDifference(result);
+        if (difference != null) {
+            throw new Exception("Replay mismatch: " + difference);
+        }
+        return result;
+    }
+
+    /**
+     * Find the first position at which two lists of commands differ
+     *
+     * @param expected commands recorded
+     * @param actual   commands played again
+     * @return index of the first difference, or -1 if the lists are equal
+     */
+    private static int firstDifference(List<Command> expected, List<Command> actual) {
+        final int length = Math.min(expected.size(), actual.size());
+        for (int i = 0; i < length; i++) {
+            if (expected.get(i) != actual.get(i)) {
+                return i;
+            }
+        }
+        return expected.size() == actual.size() ? -1 : length;
+    }
+
+    /**
+     * Describe the command at an index of a list
+     *
+     * @param commands list of commands
+     * @param index    index of the command
+     * @return the command's text, or "none" if the list ended before it
+     */
+    private static String describe(List<Command> commands, int index) {
+        return index < commands.size() ? commands.get(index).getText() : "none";
+    }
+}
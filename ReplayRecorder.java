@@ -0,0 +1,56 @@
+/**
+ * ReplayRecorder class records the commands of both players of a GameSession, see GameSession.setRecorder,
+ * and creates a Replay of the game when it has finished
+ */
+public class ReplayRecorder {
+    private final long seed;
+    private final long mapHash;
+    private final GameMode gameMode;
+    private final CommandStream humanCommands = new CommandStream();
+    private final CommandStream botCommands = new CommandStream();
+
+    /**
+     * Constructor for ReplayRecorder
+     *
+     * @param seed     seed of the random number generator the session was created with
+     * @param map      map the session was created with, before any gold is picked up
+     * @param gameMode game mode of the session
+     */
+    public ReplayRecorder(long seed, Map map, GameMode gameMode) {
+        this.seed = seed;
+        this.mapHash = map.getContentHash();
+        this.gameMode = gameMode;
+    }
+
+    /**
+     * Record a command of the human player
+     *
+     * @param command command processed
+     */
+    public void recordHuman(Command command) {
+        humanCommands.add(command);
+    }
+
+    /**
+     * Record a command of the bot
+     *
+     * @param command command processed
+     */
+    public void recordBot(Command command) {
+        botCommands.add(command);
+    }
+
+    /**
+     * Create a replay of the game recorded
+     *
+     * @param session session the commands were recorded from, its final state is stored in the replay
+     * @return replay of the game
+     */
+    public Replay finish(GameSession session) {
+        final HumanPlayer humanPlayer = session.getHumanPlayer();
+        final BotPlayer botPlayer = session.getBotPlayer();
+        return new Replay(seed, mapHash, gameMode, session.getOutcome(), session.getTurn(),
+                humanPlayer.getPosition().getPacked(), botPlayer.getPosition().getPacked(),
+                humanPlayer.getGoldOwned(), botPlayer.getGoldOwned(), humanCommands.toBytes(), botCommands.toBytes());
+    }
+}
@@ -0,0 +1,179 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Simulation class plays BOT_TEST games headless (without console I/O) and reports the bot's performance,
+ * this is useful to measure the bot's ability over a large number of games.
+ * Each game is an independent GameSession so games can be played in parallel on all cores
+ */
+public class Simulation {
+    static final int DEFAULT_MAX_MOVES = 10_000;          // moves after which a game is abandoned as unfinished
+    private static final int BATCHES_PER_THREAD = 8;      // split games into more batches than threads to balance the load
+
+    private final Map map;          // map to play on, each game is played on its own copy
+    private final long seed;        // seed for the random start positions and random bot moves
+    private final int maxMoves;     // maximum number of bot moves in a game
+    private final int lookRadius;   // number of cells the bot sees in each direction with LOOK
+    private final ViewShape viewShape;  // shape of the area the bot sees with LOOK
+
+    /**
+     * Constructor for Simulation
+     *
+     * @param map      map to play on, it is not changed by the simulation
+     * @param seed     seed for the random number generators, the same seed replays the same games
+     * @param maxMoves maximum number of bot moves before a game is abandoned
+     */
+    public Simulation(Map map, long seed, int maxMoves) {
+        this(map, seed, maxMoves, GameSession.DEFAULT_LOOK_RADIUS, ViewShape.SQUARE);
+    }
+
+    /**
+     * Constructor for Simulation with a configurable LOOK view
+     *
+     * @param map        map to play on, it is not changed by the simulation
+     * @param seed       seed for the random number generators, the same seed replays the same games
+     * @param maxMoves   maximum number of bot moves before a game is abandoned
+     * @param lookRadius number of cells the bot sees in each direction with LOOK
+     * @param viewShape  shape of the area the bot sees with LOOK
+     */
+    public Simulation(Map map, long seed, int maxMoves, int lookRadius, ViewShape viewShape) {
+        this.map = map;
+        this.seed = seed;
+        this.maxMoves = maxMoves;
+        this.lookRadius = lookRadius;
+        this.viewShape = viewShape;
+        // the copy of the map for each game shares the start positions instead of scanning the grid for them
+        map.prepareStartPositions();
+    }
+
+    /**
+     * Main will run the simulation and print the report
+     *
+     * @param args command line arguments: map file, seed, number of games and optionally
+     *             the maximum moves per game, the number of threads (defaults to the number of cores),
+     *             the LOOK radius and the view shape
+     */
+    public static void main(String[] args) {
+        if (args.length < 3) {
+            System.out.println("Usage: java Simulation <map file> <seed> <games> [max moves per game] [threads] "
+                    + "[look radius] [SQUARE|DIAMOND|CIRCLE]");
+            return;
+        }
+        try {
+            final Map map = Map.load(args[0], GridType.BYTE);
+            final long seed = Long.parseLong(args[1]);
+            final int games = Integer.parseInt(args[2]);
+            final int maxMoves = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_MAX_MOVES;
+            final int threads = args.length > 4 ? Integer.parseInt(args[4]) : Runtime.getRuntime().availableProcessors();
+            final int lookRadius = args.length > 5 ? Integer.parseInt(args[5]) : GameSession.DEFAULT_LOOK_RADIUS;
+            final ViewShape viewShape = args.length > 6 ? ViewShape.valueOf(args[6].toUpperCase()) : ViewShape.SQUARE;
+            final SimulationResult result = new Simulation(map, seed, maxMoves, lookRadius, viewShape)
+                    .run(games, threads);
+            System.out.println("Threads: " + threads);
+            System.out.println(result);
+        } catch (Exception e) {
+            System.out.println("Error: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Play the given number of games one after the other
+     *
+     * @param games number of games to play
+     * @return result holding the outcome and move count of every game
+     */
+    public SimulationResult run(int games) {
+        final long start = System.nanoTime();
+        final SimulationResult result = playGames(0, games);
+        result.setElapsedNanos(System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Play the given number of games in parallel, the games are split into batches which are played on a ForkJoinPool,
+     * every game gets the random stream for its index so the result does not depend on the number of threads
+     *
+     * @param games   number of games to play
+     * @param threads number of threads to play games on
+     * @return result holding the outcome and move count of every game
+     * @throws InterruptedException if interrupted while waiting for the games to finish
+     * @throws ExecutionException   if a game fails
+     */
+    public SimulationResult run(int games, int threads) throws InterruptedException, ExecutionException {
+        if (threads <= 1) {
+            return run(games);
+        }
+        final ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            final long start = System.nanoTime();
+            final int batches = Math.max(1, Math.min(games, threads * BATCHES_PER_THREAD));
+            final List<Callable<SimulationResult>> tasks = new ArrayList<>(batches);
+            for (int batch = 0; batch < batches; batch++) {
+                final int firstGame = (int) ((long) games * batch / batches);
+                final int lastGame = (int) ((long) games * (batch + 1) / batches);
+                tasks.add(() -> playGames(firstGame, lastGame));
+            }
+            final SimulationResult result = new SimulationResult(games);
+            for (Future<SimulationResult> batchResult : pool.invokeAll(tasks)) {
+                result.merge(batchResult.get());
+            }
+            result.setElapsedNanos(System.nanoTime() - start);
+            return result;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Play a range of games one after the other
+     *
+     * @param firstGame index of the first game (inclusive)
+     * @param lastGame  index of the last game (exclusive)
+     * @return result holding the outcome and move count of the games
+     */
+    private SimulationResult playGames(int firstGame, int lastGame) {
+        final SimulationResult result = new SimulationResult(lastGame - firstGame);
+        final SplittableRandom streams = gameStreams(firstGame);
+        for (int game = firstGame; game < lastGame; game++) {
+            playGame(streams.split(), result);
+        }
+        return result;
+    }
+
+    /**
+     * Get the generator that splits off the random stream of each game, game n plays with the nth stream split from
+     * a generator seeded with the simulation's seed. Splitting is cheap, so each batch makes its own generator and
+     * skips the streams of the games before it rather than sharing one generator between threads
+     *
+     * @param firstGame index of the first game to be played with the generator
+     * @return generator whose next split is the stream of firstGame
+     */
+    private SplittableRandom gameStreams(int firstGame) {
+        final SplittableRandom streams = new SplittableRandom(seed);
+        for (int game = 0; game < firstGame; game++) {
+            streams.split();
+        }
+        return streams;
+    }
+
+    /**
+     * Play a single BOT_TEST game and add its result
+     *
+     * @param random random number generator for the game, the same stream replays the same game
+     * @param result result to add the game to
+     */
+    void playGame(SplittableRandom random, SimulationResult result) {
+        final GameSession session = new GameSession(map, GameMode.BOT_TEST, false, random, OutputSink.discard(), null,
+                lookRadius, viewShape);
+        final BotPlayer botPlayer = session.getBotPlayer();
+        while (botPlayer.getMoveCount() < maxMoves && session.playTurn()) {
+            // keep taking turns until the game is over or abandoned
+        }
+        result.add(session.getOutcome(), botPlayer.getMoveCount(), botPlayer.getLookCount());
+    }
+}
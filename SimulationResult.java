@@ -0,0 +1,178 @@
+import java.util.Arrays;
+
+/**
+ * SimulationResult class collects the outcome and bot move count of each simulated game and reports the statistics
+ */
+public class SimulationResult {
+    private int[] moveCounts;           // bot move count of each game, in the order the games were added
+    private int[] sortedMoveCounts;     // move counts in ascending order, null until needed or after a game is added
+    private int games;                  // number of games added so far
+    private long totalMoves;            // sum of all bot move counts
+    private long totalLooks;            // sum of all bot LOOK counts
+    private final int[] outcomeCounts;  // number of games per GameOutcome, indexed by ordinal
+    private long elapsedNanos;          // wall clock time taken to play the games
+
+    /**
+     * Constructor for SimulationResult
+     *
+     * @param expectedGames number of games expected, used to size the internal storage
+     */
+    public SimulationResult(int expectedGames) {
+        moveCounts = new int[Math.max(expectedGames, 1)];
+        outcomeCounts = new int[GameOutcome.values().length];
+    }
+
+    /**
+     * Record the result of a single game
+     *
+     * @param outcome   how the game finished
+     * @param moveCount number of moves the bot made
+     * @param lookCount number of LOOK commands the bot made
+     */
+    public void add(GameOutcome outcome, int moveCount, int lookCount) {
+        if (games == moveCounts.length) {
+            moveCounts = Arrays.copyOf(moveCounts, games * 2);
+        }
+        moveCounts[games++] = moveCount;
+        sortedMoveCounts = null;
+        totalMoves += moveCount;
+        totalLooks += lookCount;
+        outcomeCounts[outcome.ordinal()]++;
+    }
+
+    /**
+     * Add all the games recorded in another result to this result
+     *
+     * @param other result to add
+     */
+    public void merge(SimulationResult other) {
+        if (games + other.games > moveCounts.length) {
+            moveCounts = Arrays.copyOf(moveCounts, games + other.games);
+        }
+        System.arraycopy(other.moveCounts, 0, moveCounts, games, other.games);
+        games += other.games;
+        sortedMoveCounts = null;
+        totalMoves += other.totalMoves;
+        totalLooks += other.totalLooks;
+        for (int i = 0; i < outcomeCounts.length; i++) {
+            outcomeCounts[i] += other.outcomeCounts[i];
+        }
+    }
+
+    /**
+     * Set the wall clock time taken to play the games
+     *
+     * @param elapsedNanos elapsed time in nanoseconds
+     */
+    public void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Get number of games played
+     *
+     * @return number of games
+     */
+    public int getGames() {
+        return games;
+    }
+
+    /**
+     * Get total number of bot moves over all games
+     *
+     * @return total number of moves
+     */
+    public long getTotalMoves() {
+        return totalMoves;
+    }
+
+    /**
+     * Get total number of bot LOOK commands over all games
+     *
+     * @return total number of LOOK commands
+     */
+    public long getTotalLooks() {
+        return totalLooks;
+    }
+
+    /**
+     * Get number of games that finished with the given outcome
+     *
+     * @param outcome game outcome
+     * @return number of games
+     */
+    public int getOutcomeCount(GameOutcome outcome) {
+        return outcomeCounts[outcome.ordinal()];
+    }
+
+    /**
+     * Get the number of moves simulated per second
+     *
+     * @return moves per second
+     */
+    public double getMovesPerSecond() {
+        return perSecond(totalMoves);
+    }
+
+    /**
+     * Get the number of games simulated per second
+     *
+     * @return games per second
+     */
+    public double getGamesPerSecond() {
+        return perSecond(games);
+    }
+
+    /**
+     * Get the bot move count at the given percentile, using the nearest rank method.
+     * The move counts are sorted on the first call after games are added, later calls only index into them
+     *
+     * @param percentile percentile between 0 and 100
+     * @return move count at the percentile, or 0 if no games have been played
+     */
+    public int getMoveCountPercentile(double percentile) {
+        if (games == 0) {
+            return 0;
+        }
+        if (sortedMoveCounts == null) {
+            sortedMoveCounts = Arrays.copyOf(moveCounts, games);
+            Arrays.sort(sortedMoveCounts);
+        }
+        final int rank = (int) Math.ceil(percentile / 100.0 * games);
+        return sortedMoveCounts[Math.min(Math.max(rank, 1), games) - 1];
+    }
+
+    /**
+     * Convert a count to a rate per second of elapsed time
+     *
+     * @param count quantity to convert
+     * @return quantity per second
+     */
+    private double perSecond(long count) {
+        return elapsedNanos == 0 ? 0 : count * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    /**
+     * Provide a report of the simulation throughput and the distribution of bot move counts
+     *
+     * @return multi-line report
+     */
+    @Override
+    public String toString() {
+        final StringBuilder report = new StringBuilder();
+        report.append("Games: ").append(games);
+        for (GameOutcome outcome : GameOutcome.values()) {
+            report.append(' ').append(outcome).append('=').append(getOutcomeCount(outcome));
+        }
+        report.append("\nTotal moves: ").append(totalMoves);
+        report.append(String.format("%nElapsed: %.1f ms", elapsedNanos / 1_000_000.0));
+        report.append(String.format("%nGames per second: %.0f", getGamesPerSecond()));
+        report.append(String.format("%nMoves per second: %.0f", getMovesPerSecond()));
+        report.append(String.format("%nBot move count: mean=%.1f min=%d p50=%d p90=%d p99=%d max=%d",
+                games == 0 ? 0.0 : (double) totalMoves / games,
+                getMoveCountPercentile(0), getMoveCountPercentile(50), getMoveCountPercentile(90),
+                getMoveCountPercentile(99), getMoveCountPercentile(100)));
+        report.append(String.format("%nBot LOOK count: mean=%.1f", games == 0 ? 0.0 : (double) totalLooks / games));
+        return report.toString();
+    }
+}
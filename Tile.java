@@ -16,16 +16,21 @@ public enum Tile {
     private final Character character;
     private final boolean isPlayer;       // indicates whether tile is for a player (either hunan or bot)
     private final static Map<Character, Tile> mapping;  // map characters to their corresponding Tile
+    private final static Tile[] asciiMapping;           // map tiles indexed by ASCII character, for fast decoding
 
     // initialize the mapping of characters to Tile values
     static {
         mapping = new HashMap<>();
+        asciiMapping = new Tile[128];
         for (Tile tile : Tile.values()) {
             // add each Tile to the mapping using its character as the key
             if (mapping.put(tile.getCharacter(), tile) != null) {
                 // if duplicate character is detected, throw an exception
                 throw new IllegalStateException("Duplicate character can not be used in Tile");
             }
+            if (tile.getCharacter() < asciiMapping.length) {
+                asciiMapping[tile.getCharacter()] = tile;
+            }
         }
     }
 
@@ -59,17 +64,28 @@ public enum Tile {
     public static Tile[] readRow(char[] characters) {
         final Tile[] tiles = new Tile[characters.length]; // create array to hold Tile enums
         for (int i = 0; i < characters.length; i++) {
-            final Tile tile = mapping.get(characters[i]); // look up the corresponding Tile for the character
-            // initial map can not provide player positions
-            if (tile == null || tile.isPlayer) {
-                // throw exception if any character is not recognized as a valid Tile
-                throw new IllegalArgumentException("Unexpected character in map: " + characters[i]);
-            }
-            tiles[i] = tile; // add corresponding Tile to the array
+            tiles[i] = readTile(characters[i]); // add corresponding Tile to the array
         }
         return tiles; // return array of Tile enums
     }
 
+    /**
+     * Read a single map character into a Tile
+     *
+     * @param character char from a map file
+     * @return Tile for the character
+     */
+    public static Tile readTile(char character) {
+        // look up the corresponding Tile for the character
+        final Tile tile = character < asciiMapping.length ? asciiMapping[character] : mapping.get(character);
+        // initial map can not provide player positions
+        if (tile == null || tile.isPlayer) {
+            // throw exception if any character is not recognized as a valid Tile
+            throw new IllegalArgumentException("Unexpected character in map: " + character);
+        }
+        return tile;
+    }
+
     /**
      * Get Character associating with Tile
      *
@@ -80,6 +96,15 @@ public enum Tile {
         return character;
     }
 
+    /**
+     * Is this Tile representing a player
+     *
+     * @return flag indicating whether tile is for a player
+     */
+    public boolean isPlayer() {
+        return isPlayer;
+    }
+
     /**
      * String representation of Tile
      *
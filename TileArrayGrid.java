@@ -0,0 +1,87 @@
+/**
+ * TileArrayGrid class stores the grid as a 2D array of Tile, this uses one reference per cell plus one array per row
+ */
+public class TileArrayGrid implements Grid {
+    private final Tile[][] tiles;   // tiles indexed by [row][column]
+    private final int rowSize;
+    private final int columnSize;
+
+    /**
+     * Constructor for TileArrayGrid, all tiles are initially null
+     *
+     * @param rowSize    number of rows
+     * @param columnSize number of columns
+     */
+    public TileArrayGrid(int rowSize, int columnSize) {
+        this.rowSize = rowSize;
+        this.columnSize = columnSize;
+        this.tiles = new Tile[rowSize][columnSize];
+    }
+
+    /**
+     * Constructor for TileArrayGrid that uses an existing rectangular Tile array as its storage, eg a local map
+     *
+     * @param tiles tiles indexed by [row][column], used directly not copied
+     */
+    TileArrayGrid(Tile[][] tiles) {
+        this.rowSize = tiles.length;
+        this.columnSize = tiles.length == 0 ? 0 : tiles[0].length;
+        this.tiles = tiles;
+    }
+
+    /**
+     * Copy constructor for TileArrayGrid
+     *
+     * @param other TileArrayGrid object to copy
+     */
+    private TileArrayGrid(TileArrayGrid other) {
+        this.rowSize = other.rowSize;
+        this.columnSize = other.columnSize;
+        this.tiles = new Tile[rowSize][];
+        for (int i = 0; i < rowSize; i++) {
+            this.tiles[i] = other.tiles[i].clone();
+        }
+    }
+
+    @Override
+    public int getRowSize() {
+        return rowSize;
+    }
+
+    @Override
+    public int getColumnSize() {
+        return columnSize;
+    }
+
+    @Override
+    public Tile get(int row, int column) {
+        return tiles[row][column];
+    }
+
+    @Override
+    public void set(int row, int column, Tile tile) {
+        tiles[row][column] = tile;
+    }
+
+    @Override
+    public int[] countTiles() {
+        final int[] counts = new int[Tile.values().length];
+        for (Tile[] row : tiles) {
+            for (Tile tile : row) {
+                counts[tile.ordinal()]++;
+            }
+        }
+        return counts;
+    }
+
+    @Override
+    public Grid copy() {
+        return new TileArrayGrid(this);
+    }
+
+    @Override
+    public long getFootprintBytes() {
+        // outer array of row references plus one array of tile references per row
+        return 16 + 4L * rowSize + rowSize * (16 + 4L * columnSize);
+    }
+}
@@ -0,0 +1,273 @@
+import java.util.Arrays;
+
+/**
+ * TileIndex class is a spatial index of the cells of a Grid holding one tile (eg GOLD), it finds the cells nearest to a
+ * position without scanning the grid. The grid is divided into square buckets and each bucket holds the packed positions
+ * of its cells, a search visits rings of buckets around the position and stops once no unvisited bucket can hold a
+ * nearer cell. The bucket side is chosen from the number of cells so a bucket holds about one cell on average.
+ * Distance is the number of moves ignoring walls (row difference + column difference), ties are broken by row then column
+ */
+public class TileIndex {
+    private static final int MINIMUM_BUCKET_SHIFT = 3;  // smallest bucket side is 8 cells
+    private static final int MAXIMUM_BUCKET_SHIFT = 10; // largest bucket side is 1024 cells
+    private static final int INITIAL_BUCKET_CAPACITY = 4;
+
+    private final Tile tile;
+    private final int rowSize;
+    private final int columnSize;
+    private final int bucketShift;      // bucket side is 1 << bucketShift cells
+    private final int bucketRows;
+    private final int bucketColumns;
+    private final long[][] buckets;     // packed positions in each bucket, row by row, null until a cell is added
+    private final int[] bucketSizes;    // number of positions in each bucket
+    private int size;                   // number of positions in the index
+    private int[] nearestDistances = new int[INITIAL_BUCKET_CAPACITY];  // distances of the cells found by a search
+
+    /**
+     * Constructor for TileIndex, adds every cell of the grid holding the tile. The grid is scanned once to count
+     * the tile and again to add the cells, callers that know the count pass it in instead
+     *
+     * @param grid grid to index
+     * @param tile tile to index
+     */
+    public TileIndex(Grid grid, Tile tile) {
+        this(grid, tile, count(grid, tile));
+    }
+
+    /**
+     * Constructor for TileIndex, adds every cell of the grid holding the tile
+     *
+     * @param grid  grid to index
+     * @param tile  tile to index
+     * @param count number of cells of the grid holding the tile, it sets the bucket size
+     */
+    public TileIndex(Grid grid, Tile tile, int count) {
+        this.tile = tile;
+        this.rowSize = grid.getRowSize();
+        this.columnSize = grid.getColumnSize();
+
+        // a side of sqrt(cells / count) puts about one cell in each bucket
+        final double side = Math.sqrt((double) rowSize * columnSize / Math.max(1, count));
+        final int shift = 32 - Integer.numberOfLeadingZeros(Math.max(1, (int) side) - 1);
+        this.bucketShift = Math.max(MINIMUM_BUCKET_SHIFT, Math.min(MAXIMUM_BUCKET_SHIFT, shift));
+        this.bucketRows = ((rowSize - 1) >> bucketShift) + 1;
+        this.bucketColumns = ((columnSize - 1) >> bucketShift) + 1;
+        this.buckets = new long[bucketRows * bucketColumns][];
+        this.bucketSizes = new int[buckets.length];
+        for (int row = 0; row < rowSize; row++) {
+            for (int column = 0; column < columnSize; column++) {
+                if (grid.get(row, column) == tile) {
+                    add(row, column);
+                }
+            }
+        }
+    }
+
+    /**
+     * Count the cells of a grid holding a tile
+     *
+     * @param grid grid to scan
+     * @param tile tile to count
+     * @return number of cells holding the tile
+     */
+    private static int count(Grid grid, Tile tile) {
+        int count = 0;
+        for (int row = 0; row < grid.getRowSize(); row++) {
+            for (int column = 0; column < grid.getColumnSize(); column++) {
+                count += grid.get(row, column) == tile ? 1 : 0;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Copy constructor for TileIndex, the copy can be updated without changing the original
+     *
+     * @param other TileIndex to copy
+     */
+    public TileIndex(TileIndex other) {
+        this.tile = other.tile;
+        this.rowSize = other.rowSize;
+        this.columnSize = other.columnSize;
+        this.bucketShift = other.bucketShift;
+        this.bucketRows = other.bucketRows;
+        this.bucketColumns = other.bucketColumns;
+        this.buckets = new long[other.buckets.length][];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = other.buckets[i] == null ? null : other.buckets[i].clone();
+        }
+        this.bucketSizes = other.bucketSizes.clone();
+        this.size = other.size;
+    }
+
+    /**
+     * Get the tile the index holds
+     *
+     * @return indexed tile
+     */
+    public Tile getTile() {
+        return tile;
+    }
+
+    /**
+     * Get the number of cells in the index
+     *
+     * @return number of cells
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Add a cell to the index, the cell must not already be in it
+     *
+     * @param row    row of the cell
+     * @param column column of the cell
+     */
+    public void add(int row, int column) {
+        final int bucket = bucketOf(row, column);
+        long[] positions = buckets[bucket];
+        if (positions == null) {
+            positions = new long[INITIAL_BUCKET_CAPACITY];
+            buckets[bucket] = positions;
+        } else if (bucketSizes[bucket] == positions.length) {
+            positions = Arrays.copyOf(positions, positions.length * 2);
+            buckets[bucket] = positions;
+        }
+        positions[bucketSizes[bucket]++] = Position.pack(row, column);
+        size++;
+    }
+
+    /**
+     * Remove a cell from the index
+     *
+     * @param row    row of the cell
+     * @param column column of the cell
+     * @return flag indicating whether the cell was removed, false if it was not in the index
+     */
+    public boolean remove(int row, int column) {
+        final int bucket = bucketOf(row, column);
+        final long[] positions = buckets[bucket];
+        final long packed = Position.pack(row, column);
+        for (int i = 0; i < bucketSizes[bucket]; i++) {
+            if (positions[i] == packed) {
+                // the order within a bucket does not matter, so the last position fills the gap
+                positions[i] = positions[--bucketSizes[bucket]];
+                size--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Find the cells nearest to a position, nearest first
+     *
+     * @param row     row of the position
+     * @param column  column of the position
+     * @param nearest array filled with the packed positions of the cells found, its length is the number of cells wanted
+     * @return number of cells found, less than the length of nearest only if the index holds fewer cells
+     */
+    public int findNearest(int row, int column, long[] nearest) {
+        final int wanted = Math.min(nearest.length, size);
+        if (wanted == 0) {
+            return 0;
+        }
+        if (nearestDistances.length < wanted) {
+            nearestDistances = new int[wanted];
+        }
+        final int bucketRow = Math.max(0, Math.min(bucketRows - 1, row >> bucketShift));
+        final int bucketColumn = Math.max(0, Math.min(bucketColumns - 1, column >> bucketShift));
+        final int lastRing = Math.max(Math.max(bucketRow, bucketRows - 1 - bucketRow),
+                Math.max(bucketColumn, bucketColumns - 1 - bucketColumn));
+        // moves from the position to the nearest edge of its own bucket
+        final int side = 1 << bucketShift;
+        final int edge = Math.max(0, Math.min(Math.min(row - (bucketRow << bucketShift), ((bucketRow + 1) << bucketShift) - 1 - row),
+                Math.min(column - (bucketColumn << bucketShift), ((bucketColumn + 1) << bucketShift) - 1 - column)));
+
+        int found = 0;
+        for (int ring = 0; ring <= lastRing; ring++) {
+            // every cell in this ring of buckets is at least this many moves away
+            if (found == wanted && ring > 0 && (ring - 1) * side + edge + 1 > nearestDistances[found - 1]) {
+                break;
+            }
+            final int firstBucketRow = Math.max(0, bucketRow - ring);
+            final int lastBucketRow = Math.min(bucketRows - 1, bucketRow + ring);
+            for (int i = firstBucketRow; i <= lastBucketRow; i++) {
+                if (i == bucketRow - ring || i == bucketRow + ring) {
+                    // top and bottom of the ring take the whole row of buckets
+                    final int firstBucketColumn = Math.max(0, bucketColumn - ring);
+                    final int lastBucketColumn = Math.min(bucketColumns - 1, bucketColumn + ring);
+                    for (int j = firstBucketColumn; j <= lastBucketColumn; j++) {
+                        found = searchBucket(i * bucketColumns + j, row, column, nearest, found, wanted);
+                    }
+                } else {
+                    // the sides of the ring take one bucket at each end
+                    if (bucketColumn - ring >= 0) {
+                        found = searchBucket(i * bucketColumns + bucketColumn - ring, row, column, nearest, found, wanted);
+                    }
+                    if (bucketColumn + ring < bucketColumns) {
+                        found = searchBucket(i * bucketColumns + bucketColumn + ring, row, column, nearest, found, wanted);
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Check the positions of a bucket against the nearest cells found so far, which are kept sorted nearest first
+     *
+     * @param bucket  index of the bucket
+     * @param row     row searched from
+     * @param column  column searched from
+     * @param nearest packed positions found so far
+     * @param found   number of positions found so far
+     * @param wanted  number of positions wanted
+     * @return number of positions found after checking the bucket
+     */
+    private int searchBucket(int bucket, int row, int column, long[] nearest, int found, int wanted) {
+        final long[] positions = buckets[bucket];
+        for (int i = 0; i < bucketSizes[bucket]; i++) {
+            final long packed = positions[i];
+            final int distance = Math.abs(Position.rowOf(packed) - row) + Math.abs(Position.columnOf(packed) - column);
+            if (found == wanted && !isNearer(distance, packed, nearestDistances[found - 1], nearest[found - 1])) {
+                continue;
+            }
+            // insertion sort, dropping the farthest position if the list is full
+            int slot = found == wanted ? found - 1 : found++;
+            while (slot > 0 && isNearer(distance, packed, nearestDistances[slot - 1], nearest[slot - 1])) {
+                nearestDistances[slot] = nearestDistances[slot - 1];
+                nearest[slot] = nearest[slot - 1];
+                slot--;
+            }
+            nearestDistances[slot] = distance;
+            nearest[slot] = packed;
+        }
+        return found;
+    }
+
+    /**
+     * Compare two cells by distance, then by row and column so the order of the cells found does not depend on buckets
+     *
+     * @param distance      distance of the first cell
+     * @param packed        packed position of the first cell
+     * @param otherDistance distance of the second cell
+     * @param otherPacked   packed position of the second cell
+     * @return flag indicating whether the first cell comes before the second
+     */
+    private static boolean isNearer(int distance, long packed, int otherDistance, long otherPacked) {
+        return distance < otherDistance || (distance == otherDistance && packed < otherPacked);
+    }
+
+    /**
+     * Get the bucket holding a cell
+     *
+     * @param row    row of the cell
+     * @param column column of the cell
+     * @return index of the bucket
+     */
+    private int bucketOf(int row, int column) {
+        return (row >> bucketShift) * bucketColumns + (column >> bucketShift);
+    }
+}
@@ -0,0 +1,25 @@
+/**
+ * ViewShape enum represents the shapes of the area a player can see with LOOK,
+ * the view is always a square grid with the player at the centre, cells outside the shape are not seen (null)
+ */
+public enum ViewShape {
+    SQUARE,
+    DIAMOND,
+    CIRCLE;
+
+    /**
+     * Check if a cell is inside the view
+     *
+     * @param rowOffset    row of the cell relative to the player
+     * @param columnOffset column of the cell relative to the player
+     * @param radius       radius of the view, the number of cells seen in each direction
+     * @return flag indicating whether the cell can be seen
+     */
+    public boolean contains(int rowOffset, int columnOffset, int radius) {
+        return switch (this) {
+            case SQUARE -> Math.abs(rowOffset) <= radius && Math.abs(columnOffset) <= radius;
+            case DIAMOND -> Math.abs(rowOffset) + Math.abs(columnOffset) <= radius;
+            case CIRCLE -> rowOffset * rowOffset + columnOffset * columnOffset <= radius * radius;
+        };
+    }
+}
@@ -0,0 +1,88 @@
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * BenchmarkMaps class creates random maps for the benchmarks so they do not depend on map files
+ */
+public class BenchmarkMaps {
+    private static final double WALL_PROBABILITY = 0.8;    // probability of a pillar cell being a wall
+    private static final double GOLD_PROBABILITY = 0.01;   // probability of an inner cell being gold
+
+    /**
+     * Create a random map surrounded by walls with at least one exit and enough gold to win.
+     * Inner walls are only placed on cells with an odd row and odd column so every open cell can be reached
+     *
+     * @param rowSize    number of rows
+     * @param columnSize number of columns
+     * @param gridType   how the tiles are stored
+     * @param seed       seed for the random tiles, the same seed creates the same map
+     * @return the map
+     */
+    static Map create(int rowSize, int columnSize, GridType gridType, long seed) {
+        final Random random = new Random(seed);
+        final Grid grid = gridType.create(rowSize, columnSize);
+        for (int i = 0; i < rowSize; i++) {
+            for (int j = 0; j < columnSize; j++) {
+                final boolean border = i == 0 || j == 0 || i == rowSize - 1 || j == columnSize - 1;
+                final boolean pillar = i % 2 == 1 && j % 2 == 1;
+                if (border || pillar && random.nextDouble() < WALL_PROBABILITY) {
+                    grid.set(i, j, Tile.WALL);
+                } else if (random.nextDouble() < GOLD_PROBABILITY) {
+                    grid.set(i, j, Tile.GOLD);
+                } else {
+                    grid.set(i, j, Tile.SPACE);
+                }
+            }
+        }
+        grid.set(rowSize / 2, columnSize / 2, Tile.EXIT);
+        grid.set(1, 1, Tile.GOLD);
+        try {
+            return new Map("Benchmark " + rowSize + "x" + columnSize, 1, grid);
+        } catch (Exception e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Save a random map to a temporary text map file, the file is deleted when the JVM exits
+     *
+     * @param rowSize    number of rows
+     * @param columnSize number of columns
+     * @param seed       seed for the random tiles
+     * @return path to the text map file
+     */
+    static String createTextFile(int rowSize, int columnSize, long seed) {
+        try {
+            final File file = File.createTempFile("benchmark_map", ".txt");
+            file.deleteOnExit();
+            MapConverter.saveText(create(rowSize, columnSize, GridType.BYTE, seed), file.getPath());
+            return file.getPath();
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to write benchmark map", e);
+        }
+    }
+
+    /**
+     * Save a random map to a temporary binary map file by converting its text map file with MapConverter,
+     * the files are deleted when the JVM exits
+     *
+     * @param rowSize    number of rows
+     * @param columnSize number of columns
+     * @param seed       seed for the random tiles
+     * @return path to the binary map file
+     */
+    static String createBinaryFile(int rowSize, int columnSize, long seed) {
+        try {
+            final File file = File.createTempFile("benchmark_map", ".bin");
+            file.deleteOnExit();
+            MapConverter.main(new String[]{"binary", createTextFile(rowSize, columnSize, seed), file.getPath()});
+            if (!BinaryMapFormat.isBinaryMap(file.getPath())) {
+                throw new IllegalStateException("Unable to convert benchmark map");
+            }
+            return file.getPath();
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to write benchmark map", e);
+        }
+    }
+}
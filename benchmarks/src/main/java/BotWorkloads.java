@@ -0,0 +1,123 @@
+import benchmarks.Workload;
+
+import java.util.Random;
+
+/**
+ * BotWorkloads class holds the workloads for the bot hot paths, the bot plays seeded BOT_TEST games on a random map
+ * and a new game is started whenever a game finishes, so every run measures the same sequence of turns
+ */
+public class BotWorkloads {
+    private static final int MAP_SIZE = 200;        // rows and columns of the map
+    private static final int MAX_MOVES = 5_000;     // moves after which a game is abandoned
+    private static final long SEED = 1;             // seed for the map and the games
+
+    /**
+     * BotGame class plays a sequence of seeded BOT_TEST games one turn at a time
+     */
+    private static class BotGame {
+        private final Map map = BenchmarkMaps.create(MAP_SIZE, MAP_SIZE, GridType.BYTE, SEED);
+        private GameSession session;
+        private BotPlayer botPlayer;
+        private HumanPlayer humanPlayer;
+        private LookCapture lookCapture;    // stands in for the bot to make its LOOK view without handling it
+        private int game;
+
+        /**
+         * Constructor for BotGame, starts the first game
+         */
+        BotGame() {
+            newGame();
+        }
+
+        /**
+         * Start the next game
+         */
+        void newGame() {
+            session = new GameSession(map, GameMode.BOT_TEST, false, new Random(SEED + game++), OutputSink.discard(), null);
+            botPlayer = session.getBotPlayer();
+            humanPlayer = session.getHumanPlayer();
+            lookCapture = new LookCapture();
+        }
+
+        /**
+         * Process a command of the bot, starting the next game if the command ends the game
+         *
+         * @param command command issued by the bot
+         */
+        void process(Command command) {
+            final boolean continueGame = session.processCommand(command, botPlayer, humanPlayer);
+            if (!continueGame || botPlayer.getMoveCount() >= MAX_MOVES
+                    || botPlayer.getPosition().equals(humanPlayer.getPosition())) {
+                newGame();
+            }
+        }
+
+        /**
+         * Play bot turns up to the bot's next LOOK and make the view it would be given
+         *
+         * @return the LOOK view
+         */
+        Tile[][] playToLook() {
+            Command command = botPlayer.issueCommand();
+            while (command != Command.LOOK) {
+                process(command);
+                command = botPlayer.issueCommand();
+            }
+            lookCapture.setPosition(botPlayer.getPosition());
+            session.processCommand(command, lookCapture, humanPlayer);
+            return lookCapture.localMap;
+        }
+    }
+
+    /**
+     * LookCapture class is moved to the bot's position to make the bot's LOOK view and keeps it instead of handling it
+     */
+    private static class LookCapture extends Player {
+        private Tile[][] localMap;
+
+        /**
+         * Constructor for LookCapture, set its position to the bot's before each LOOK
+         */
+        LookCapture() {
+            super(new Position(0, 0), Tile.BOT);
+        }
+
+        @Override
+        void handleLook(Tile[][] localMap) {
+            this.localMap = localMap;
+        }
+    }
+
+    /**
+     * HandleLook workload measures BotPlayer.handleLook, the turns before each LOOK are played in prepare
+     */
+    public static class HandleLook implements Workload {
+        private final BotGame botGame = new BotGame();
+        private Tile[][] localMap;
+
+        @Override
+        public void prepare() {
+            localMap = botGame.playToLook();
+        }
+
+        @Override
+        public long run() {
+            botGame.botPlayer.handleLook(localMap);
+            return botGame.botPlayer.getLookCount();
+        }
+    }
+
+    /**
+     * Turn workload measures a whole bot turn, BotPlayer.issueCommand and the processing of the command,
+     * including handleLook when the command is LOOK
+     */
+    public static class Turn implements Workload {
+        private final BotGame botGame = new BotGame();
+
+        @Override
+        public long run() {
+            botGame.process(botGame.botPlayer.issueCommand());
+            return botGame.botPlayer.getMoveCount();
+        }
+    }
+}
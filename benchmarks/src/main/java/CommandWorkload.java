@@ -0,0 +1,57 @@
+import benchmarks.Workload;
+
+import java.util.Random;
+
+/**
+ * CommandWorkload class measures the dispatch of a command by GameSession.processCommand,
+ * the command is issued by a player that ignores the responses so only the game side is measured
+ */
+public class CommandWorkload implements Workload {
+    private static final int MAP_SIZE = 200;        // rows and columns of the map
+    private static final long SEED = 1;             // seed for the map and the start positions
+
+    private final GameSession session;
+    private final Player callingPlayer;
+    private final Player otherPlayer;
+    private final Command command;
+
+    /**
+     * Constructor for CommandWorkload
+     *
+     * @param command text of the command to process, eg "MOVE N"
+     */
+    public CommandWorkload(String command) {
+        final Map map = BenchmarkMaps.create(MAP_SIZE, MAP_SIZE, GridType.BYTE, SEED);
+        session = new GameSession(map, GameMode.BOT_TEST, false, new Random(SEED), OutputSink.discard(), null);
+        callingPlayer = new QuietPlayer(session.getHumanPlayer().getPosition());
+        otherPlayer = session.getBotPlayer();
+        this.command = Command.parse(command);
+    }
+
+    @Override
+    public long run() {
+        return session.processCommand(command, callingPlayer, otherPlayer) ? 1 : 0;
+    }
+
+    /**
+     * QuietPlayer class is a player that ignores the responses to its commands
+     */
+    private static class QuietPlayer extends Player {
+        /**
+         * Constructor for QuietPlayer
+         *
+         * @param position position of the player
+         */
+        QuietPlayer(Position position) {
+            super(position, Tile.PLAYER);
+        }
+
+        @Override
+        void handleHello(String message) {
+        }
+
+        @Override
+        void handleLook(Tile[][] localMap) {
+        }
+    }
+}
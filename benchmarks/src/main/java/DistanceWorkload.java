@@ -0,0 +1,72 @@
+import benchmarks.Workload;
+
+/**
+ * DistanceWorkload class measures keeping the distances to the nearest GOLD of a random map up to date
+ * while gold is picked up and dropped again, one gold cell per run. The distances are either
+ * "rebuild" searched again from every gold cell after each change, or
+ * "incremental" updated by Map.setTile for the cells near the changed gold only
+ */
+public class DistanceWorkload implements Workload {
+    private static final long SEED = 1;             // seed for the map
+
+    private final Map map;
+    private final String variant;
+    private final Position[] gold;                  // gold cells of the map, picked up in turn
+    private int next;
+
+    /**
+     * Constructor for DistanceWorkload
+     *
+     * @param size    rows and columns of the map
+     * @param variant how the distances are kept up to date: "rebuild" or "incremental"
+     */
+    public DistanceWorkload(String size, String variant) {
+        final int mapSize = Integer.parseInt(size);
+        this.map = BenchmarkMaps.create(mapSize, mapSize, GridType.BYTE, SEED);
+        this.variant = variant;
+        final Grid grid = map.getGrid();
+        int count = 0;
+        for (int row = 0; row < mapSize; row++) {
+            for (int column = 0; column < mapSize; column++) {
+                count += grid.get(row, column) == Tile.GOLD ? 1 : 0;
+            }
+        }
+        this.gold = new Position[count];
+        count = 0;
+        for (int row = 0; row < mapSize; row++) {
+            for (int column = 0; column < mapSize; column++) {
+                if (grid.get(row, column) == Tile.GOLD) {
+                    gold[count++] = new Position(row, column);
+                }
+            }
+        }
+        if (!variant.equals("rebuild") && !variant.equals("incremental")) {
+            throw new IllegalArgumentException("Unknown variant: " + variant);
+        }
+    }
+
+    @Override
+    public long run() {
+        final Position position = gold[next];
+        next = (next + 1) % gold.length;
+        long sum = 0;
+        map.setTile(position, Tile.SPACE);
+        sum += distanceToGold(position);
+        map.setTile(position, Tile.GOLD);
+        sum += distanceToGold(position);
+        return sum;
+    }
+
+    /**
+     * Get the distance from a position to the nearest gold after a change
+     *
+     * @param position position to measure from
+     * @return number of moves to the nearest gold
+     */
+    private int distanceToGold(Position position) {
+        if (variant.equals("rebuild")) {
+            return new DistanceField(map.getGrid(), Tile.GOLD).getDistance(position.getRow(), position.getColumn());
+        }
+        return map.getDistanceToGold(position.getRow(), position.getColumn());
+    }
+}
@@ -0,0 +1,29 @@
+import benchmarks.Workload;
+
+/**
+ * GridWorkload class allocates an empty grid of a GridType for every run, so the bytes allocated per operation
+ * reported by the JMH gc profiler (gc.alloc.rate.norm) are the heap memory used by a grid of that size.
+ * The run returns the grid's own estimate, Grid.getFootprintBytes, to compare with
+ */
+public class GridWorkload implements Workload {
+    private final GridType gridType;
+    private final int size;
+    private Grid grid;      // the last grid created, kept so the JIT can not remove the allocation
+
+    /**
+     * Constructor for GridWorkload
+     *
+     * @param gridType how the tiles are stored, a GridType name
+     * @param size     number of rows and columns of the grid
+     */
+    public GridWorkload(String gridType, String size) {
+        this.gridType = GridType.valueOf(gridType);
+        this.size = Integer.parseInt(size);
+    }
+
+    @Override
+    public long run() {
+        grid = gridType.create(size, size);
+        return grid.getFootprintBytes();
+    }
+}
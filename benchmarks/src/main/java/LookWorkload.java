@@ -0,0 +1,47 @@
+import benchmarks.Workload;
+
+import java.util.Optional;
+import java.util.Random;
+
+/**
+ * LookWorkload class measures the cost of a LOOK for a view shape and radius, making the view with Map.getLocalMap
+ * into a reused buffer from random positions on a random map
+ */
+public class LookWorkload implements Workload {
+    private static final int POSITIONS = 1024;      // random positions cycled through, a power of two
+    private static final int MAP_SIZE = 1000;       // rows and columns of the map
+    private static final long SEED = 1;             // seed for the map and positions
+
+    private final Map map;
+    private final ViewShape shape;
+    private final Player[] callingPlayers = new Player[POSITIONS];
+    private final Player[] otherPlayers = new Player[POSITIONS];
+    private final Tile[][] view;
+    private int next;
+
+    /**
+     * Constructor for LookWorkload
+     *
+     * @param shape  shape of the view, a ViewShape name
+     * @param radius number of cells seen in each direction
+     */
+    public LookWorkload(String shape, String radius) {
+        this.shape = ViewShape.valueOf(shape);
+        final int lookRadius = Integer.parseInt(radius);
+        this.view = new Tile[2 * lookRadius + 1][2 * lookRadius + 1];
+        map = BenchmarkMaps.create(MAP_SIZE, MAP_SIZE, GridType.BYTE, SEED);
+        final Random random = new Random(SEED);
+        for (int i = 0; i < POSITIONS; i++) {
+            callingPlayers[i] = new HumanPlayer(map.getRandomStartPosition(Optional.empty(), random), Tile.BOT);
+            otherPlayers[i] = new HumanPlayer(
+                    map.getRandomStartPosition(Optional.of(callingPlayers[i].getPosition()), random), Tile.PLAYER);
+        }
+    }
+
+    @Override
+    public long run() {
+        next = (next + 1) & (POSITIONS - 1);
+        final Tile[][] localMap = map.getLocalMap(callingPlayers[next], otherPlayers[next], view, shape);
+        return localMap[view.length / 2][0] == null ? 0 : localMap[view.length / 2][0].ordinal();
+    }
+}
@@ -0,0 +1,195 @@
+import benchmarks.Workload;
+
+import java.util.Optional;
+import java.util.Random;
+
+/**
+ * MapWorkloads class holds the workloads for the Map hot paths: loading a text or binary map, getTile, getLocalMap
+ * and placing players at random start positions
+ */
+public class MapWorkloads {
+    private static final int POSITIONS = 4096;      // random positions cycled through, a power of two
+    private static final int MAP_SIZE = 1000;       // rows and columns of the map for getTile and getLocalMap
+    private static final long SEED = 1;             // seed for the random maps and positions
+
+    /**
+     * Load workload constructs a Map from a text map file
+     */
+    public static class Load implements Workload {
+        private final String filename;
+        private final GridType gridType;
+
+        /**
+         * Constructor for Load, writes a random square text map to a temporary file
+         *
+         * @param gridType how the tiles are stored, a GridType name
+         * @param size     number of rows and columns of the map
+         */
+        public Load(String gridType, String size) {
+            this.gridType = GridType.valueOf(gridType);
+            this.filename = BenchmarkMaps.createTextFile(Integer.parseInt(size), Integer.parseInt(size), SEED);
+        }
+
+        @Override
+        public long run() {
+            try {
+                return new Map(filename, gridType).getGrid().getRowSize();
+            } catch (Exception e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * LoadBinary workload constructs a Map from a binary map file, the same map as Load reads as text
+     */
+    public static class LoadBinary implements Workload {
+        private final String filename;
+        private final GridType gridType;
+
+        /**
+         * Constructor for LoadBinary, writes a random square map to a temporary binary file through MapConverter
+         *
+         * @param gridType how the tiles are stored, a GridType name
+         * @param size     number of rows and columns of the map
+         */
+        public LoadBinary(String gridType, String size) {
+            this.gridType = GridType.valueOf(gridType);
+            this.filename = BenchmarkMaps.createBinaryFile(Integer.parseInt(size), Integer.parseInt(size), SEED);
+        }
+
+        @Override
+        public long run() {
+            try {
+                return BinaryMapFormat.load(filename, gridType).getGrid().getRowSize();
+            } catch (Exception e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * GetTile workload reads the tile at random positions with Map.getTile
+     */
+    public static class GetTile implements Workload {
+        private final Map map;
+        private final Position[] positions = new Position[POSITIONS];
+        private int next;
+
+        /**
+         * Constructor for GetTile
+         *
+         * @param gridType how the tiles are stored, a GridType name
+         */
+        public GetTile(String gridType) {
+            map = BenchmarkMaps.create(MAP_SIZE, MAP_SIZE, GridType.valueOf(gridType), SEED);
+            final Random random = new Random(SEED);
+            for (int i = 0; i < POSITIONS; i++) {
+                positions[i] = new Position(random.nextInt(MAP_SIZE), random.nextInt(MAP_SIZE));
+            }
+        }
+
+        @Override
+        public long run() {
+            next = (next + 1) & (POSITIONS - 1);
+            return map.getTile(positions[next]).ordinal();
+        }
+    }
+
+    /**
+     * LocalMap workload makes the 5x5 LOOK view from random positions with Map.getLocalMap,
+     * either allocating a new view each time or filling a reused view buffer
+     */
+    public static class LocalMap implements Workload {
+        private final Map map;
+        private final boolean allocating;
+        private final Player[] callingPlayers = new Player[POSITIONS];
+        private final Player[] otherPlayers = new Player[POSITIONS];
+        private final Tile[][] view = new Tile[5][5];
+        private int next;
+
+        /**
+         * Constructor for LocalMap
+         *
+         * @param variant "allocating" for a new view for every call, "buffer" to fill a reused view
+         */
+        public LocalMap(String variant) {
+            allocating = "allocating".equals(variant);
+            map = BenchmarkMaps.create(MAP_SIZE, MAP_SIZE, GridType.BYTE, SEED);
+            final Random random = new Random(SEED);
+            for (int i = 0; i < POSITIONS; i++) {
+                callingPlayers[i] = new HumanPlayer(map.getRandomStartPosition(Optional.empty(), random), Tile.BOT);
+                otherPlayers[i] = new HumanPlayer(
+                        map.getRandomStartPosition(Optional.of(callingPlayers[i].getPosition()), random), Tile.PLAYER);
+            }
+        }
+
+        @Override
+        public long run() {
+            next = (next + 1) & (POSITIONS - 1);
+            final Tile[][] localMap = allocating ? map.getLocalMap(callingPlayers[next], otherPlayers[next])
+                    : map.getLocalMap(callingPlayers[next], otherPlayers[next], view);
+            return localMap[0][0].ordinal();
+        }
+    }
+
+    /**
+     * StartPosition workload places two players on a map that is all wall except for one open row,
+     * either with Map.getRandomStartPosition drawing from its free cells or by drawing random cells until one is free
+     */
+    public static class StartPosition implements Workload {
+        private final Map map;
+        private final boolean rejection;
+        private final Random random = new Random(SEED);
+
+        /**
+         * Constructor for StartPosition
+         *
+         * @param variant "freeCells" for Map.getRandomStartPosition, "rejection" to draw random cells
+         */
+        public StartPosition(String variant) {
+            rejection = "rejection".equals(variant);
+            final Grid grid = GridType.BYTE.create(MAP_SIZE, MAP_SIZE);
+            for (int i = 0; i < MAP_SIZE; i++) {
+                for (int j = 0; j < MAP_SIZE; j++) {
+                    final boolean open = i == MAP_SIZE / 2 && j > 0 && j < MAP_SIZE - 1;
+                    grid.set(i, j, open ? Tile.SPACE : Tile.WALL);
+                }
+            }
+            grid.set(MAP_SIZE / 2, 1, Tile.GOLD);
+            grid.set(MAP_SIZE / 2, MAP_SIZE - 2, Tile.EXIT);
+            try {
+                map = new Map("Corridor", 1, grid);
+            } catch (Exception e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public long run() {
+            if (rejection) {
+                final long first = drawFreeCell(-1);
+                return first + drawFreeCell(first);
+            }
+            final Position first = map.getRandomStartPosition(Optional.empty(), random);
+            return first.getPacked() + map.getRandomStartPosition(Optional.of(first), random).getPacked();
+        }
+
+        /**
+         * Draw random cells until one is SPACE or EXIT and not the excluded cell
+         *
+         * @param excluded packed position that may not be drawn, or -1
+         * @return packed position of the free cell
+         */
+        private long drawFreeCell(long excluded) {
+            while (true) {
+                final int row = random.nextInt(MAP_SIZE);
+                final int column = random.nextInt(MAP_SIZE);
+                final Tile tile = map.getTile(row, column);
+                if ((tile == Tile.SPACE || tile == Tile.EXIT) && Position.pack(row, column) != excluded) {
+                    return Position.pack(row, column);
+                }
+            }
+        }
+    }
+}
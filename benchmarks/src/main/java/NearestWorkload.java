@@ -0,0 +1,76 @@
+import benchmarks.Workload;
+
+import java.util.Random;
+
+/**
+ * NearestWorkload class measures finding the GOLD nearest to random positions of a random map, either
+ * "scan" every cell of the grid, or
+ * "index" Map.findNearest with its spatial index
+ */
+public class NearestWorkload implements Workload {
+    private static final long SEED = 1;             // seed for the map and positions
+    private static final int POSITIONS = 1024;      // positions searched from, a power of two
+
+    private final Map map;
+    private final String variant;
+    private final int[] rows = new int[POSITIONS];
+    private final int[] columns = new int[POSITIONS];
+    private final long[] nearest = new long[1];
+    private int next;
+
+    /**
+     * Constructor for NearestWorkload
+     *
+     * @param size    rows and columns of the map
+     * @param variant how the nearest gold is found: "scan" or "index"
+     */
+    public NearestWorkload(String size, String variant) {
+        final int mapSize = Integer.parseInt(size);
+        this.map = BenchmarkMaps.create(mapSize, mapSize, GridType.BYTE, SEED);
+        this.variant = variant;
+        final Random random = new Random(SEED);
+        for (int i = 0; i < POSITIONS; i++) {
+            rows[i] = random.nextInt(mapSize);
+            columns[i] = random.nextInt(mapSize);
+        }
+        if (!variant.equals("scan") && !variant.equals("index")) {
+            throw new IllegalArgumentException("Unknown variant: " + variant);
+        }
+        // build the index before timing starts
+        map.findNearest(Tile.GOLD, 0, 0, nearest);
+    }
+
+    @Override
+    public long run() {
+        final int i = next;
+        next = (next + 1) & (POSITIONS - 1);
+        if (variant.equals("index")) {
+            map.findNearest(Tile.GOLD, rows[i], columns[i], nearest);
+            return nearest[0];
+        }
+        return scan(rows[i], columns[i]);
+    }
+
+    /**
+     * Find the nearest gold by checking every cell of the grid
+     *
+     * @param row    row to search from
+     * @param column column to search from
+     * @return packed position of the nearest gold
+     */
+    private long scan(int row, int column) {
+        final Grid grid = map.getGrid();
+        long best = -1;
+        int bestDistance = Integer.MAX_VALUE;
+        for (int i = 0; i < grid.getRowSize(); i++) {
+            for (int j = 0; j < grid.getColumnSize(); j++) {
+                final int distance = Math.abs(i - row) + Math.abs(j - column);
+                if (distance < bestDistance && grid.get(i, j) == Tile.GOLD) {
+                    bestDistance = distance;
+                    best = Position.pack(i, j);
+                }
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,167 @@
+import benchmarks.Workload;
+
+import java.util.LinkedList;
+import java.util.Random;
+
+/**
+ * PlannerWorkload class compares the PathFinder used by the bot with the greedy planner it replaced, planning from
+ * the centre of random 5x5 LOOK grids to a random destination, one grid per run. The planner is either
+ * "greedy" stepping N, S, W or E towards the destination until a wall blocks every step that gets closer, or
+ * "pathFinder" the breadth first search PathFinder.
+ * The operation is either "plan" planning the path once, or "play" which moves the bot one step a turn, planning
+ * again from where it stands each turn as the bot does after a LOOK, until it reaches the destination or has no move
+ */
+public class PlannerWorkload implements Workload {
+    private static final int SIZE = 5;                  // size of a LOOK grid
+    private static final int CENTRE = SIZE / 2;         // position of the bot in a LOOK grid
+    private static final int GRIDS = 4096;              // random grids cycled through, a power of two
+    private static final double WALL_PROBABILITY = 0.3; // probability of each cell being a wall
+    private static final long SEED = 1;                 // seed for the grids
+    private static final int MAX_TURNS = SIZE * SIZE;   // turns a play may take, no path on a LOOK grid is longer
+
+    private final boolean greedy;
+    private final boolean play;
+    private final Tile[][][] localMaps = new Tile[GRIDS][][];
+    private final TileArrayGrid[] grids = new TileArrayGrid[GRIDS];
+    private final Position[] destinations = new Position[GRIDS];
+    private final PathFinder pathFinder = new PathFinder();
+    private int next;
+
+    /**
+     * Constructor for PlannerWorkload
+     *
+     * @param variant   planner to run: "greedy" or "pathFinder"
+     * @param operation "plan" to plan once or "play" to move to the destination one planned step a turn
+     */
+    public PlannerWorkload(String variant, String operation) {
+        greedy = "greedy".equals(variant);
+        play = "play".equals(operation);
+        final Random random = new Random(SEED);
+        for (int i = 0; i < GRIDS; i++) {
+            localMaps[i] = new Tile[SIZE][SIZE];
+            for (int row = 0; row < SIZE; row++) {
+                for (int column = 0; column < SIZE; column++) {
+                    localMaps[i][row][column] = random.nextDouble() < WALL_PROBABILITY ? Tile.WALL : Tile.SPACE;
+                }
+            }
+            localMaps[i][CENTRE][CENTRE] = Tile.BOT;
+
+            // the destination is any cell that is not a wall or the centre, marked as GOLD
+            int row;
+            int column;
+            do {
+                row = random.nextInt(SIZE);
+                column = random.nextInt(SIZE);
+            } while (localMaps[i][row][column] == Tile.WALL || (row == CENTRE && column == CENTRE));
+            localMaps[i][row][column] = Tile.GOLD;
+            destinations[i] = new Position(row, column);
+            grids[i] = new TileArrayGrid(localMaps[i]);
+        }
+    }
+
+    /**
+     * Plan once, or play to the destination, on the next grid
+     *
+     * @return for "plan" the number of moves planned, for "play" the number of turns taken to reach the destination
+     * or -1 if the bot stopped without reaching it
+     */
+    @Override
+    public long run() {
+        next = (next + 1) & (GRIDS - 1);
+        final Position destination = destinations[next];
+        if (play) {
+            return playToDestination(localMaps[next], grids[next], destination);
+        }
+        if (greedy) {
+            return planGreedy(localMaps[next], destination);
+        }
+        return pathFinder.findPath(grids[next], CENTRE, CENTRE, destination.getRow(), destination.getColumn());
+    }
+
+    /**
+     * Move the bot from the centre towards the destination, taking the first move of a new plan each turn
+     *
+     * @param localMap    LOOK grid
+     * @param grid        the LOOK grid as a Grid for PathFinder
+     * @param destination destination
+     * @return number of turns taken to reach the destination, or -1 if the bot stopped without reaching it
+     */
+    private long playToDestination(Tile[][] localMap, Grid grid, Position destination) {
+        Position current = new Position(CENTRE, CENTRE);
+        for (int turn = 0; turn < MAX_TURNS; turn++) {
+            if (current.equals(destination)) {
+                return turn;
+            }
+            final Direction move;
+            if (greedy) {
+                move = findNextMove(localMap, current, destination);
+            } else if (pathFinder.findPath(grid, current.getRow(), current.getColumn(),
+                    destination.getRow(), destination.getColumn()) > 0) {
+                move = pathFinder.getMove(0);
+            } else {
+                move = null;
+            }
+            if (move == null) {
+                return -1;
+            }
+            current = current.move(move);
+        }
+        return current.equals(destination) ? MAX_TURNS : -1;
+    }
+
+    /**
+     * Plan the moves towards the destination as the bot did before PathFinder
+     *
+     * @param localMap    LOOK grid
+     * @param destination destination
+     * @return number of moves planned
+     */
+    private static long planGreedy(Tile[][] localMap, Position destination) {
+        final LinkedList<Direction> moves = new LinkedList<>();
+        Position current = new Position(CENTRE, CENTRE);
+        Direction move;
+        do {
+            move = findNextMove(localMap, current, destination);
+            if (move != null) {
+                moves.add(move);
+                current = current.move(move);
+            }
+        } while (move != null);
+        return moves.size();
+    }
+
+    /**
+     * Find the next move that moves closer to the destination whilst avoiding walls
+     *
+     * @param localMap    LOOK grid
+     * @param current     the bot's current position
+     * @param destination the target position
+     * @return direction of the next valid move, or null if there is none
+     */
+    private static Direction findNextMove(Tile[][] localMap, Position current, Position destination) {
+        if (current.getRow() > destination.getRow() && isMoveValid(localMap, current, Direction.NORTH)) {
+            return Direction.NORTH;
+        } else if (current.getRow() < destination.getRow() && isMoveValid(localMap, current, Direction.SOUTH)) {
+            return Direction.SOUTH;
+        } else if (current.getColumn() > destination.getColumn() && isMoveValid(localMap, current, Direction.WEST)) {
+            return Direction.WEST;
+        } else if (current.getColumn() < destination.getColumn() && isMoveValid(localMap, current, Direction.EAST)) {
+            return Direction.EAST;
+        }
+        return null;
+    }
+
+    /**
+     * Check if a move avoids moving into a wall, as the greedy planner checked it
+     *
+     * @param localMap  LOOK grid
+     * @param position  current position
+     * @param direction proposed direction of movement
+     * @return flag indicating whether move is valid
+     */
+    private static boolean isMoveValid(Tile[][] localMap, Position position, Direction direction) {
+        final int row = position.getRow() + direction.getRowStep();
+        final Tile nextTile = localMap[row][position.getColumn() + direction.getColumnStep()];
+        return nextTile != null && nextTile != Tile.WALL;
+    }
+}
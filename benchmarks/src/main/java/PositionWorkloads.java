@@ -0,0 +1,178 @@
+import benchmarks.Workload;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * PositionWorkloads class holds the workloads for Position.equals and Position.hashCode,
+ * and a HashSet lookup which depends on how well hashCode spreads positions
+ */
+public class PositionWorkloads {
+    private static final int POSITIONS = 4096;      // positions cycled through, a power of two
+    private static final int SIZE = 64;             // rows and columns the positions are taken from
+    private static final long SEED = 1;             // seed for the random positions
+
+    /**
+     * Create random positions, every position has an equal copy at the same index of the second array
+     *
+     * @param positions array to fill with positions
+     * @param copies    array to fill with copies of the positions
+     */
+    private static void fill(Position[] positions, Position[] copies) {
+        final Random random = new Random(SEED);
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = new Position(random.nextInt(SIZE), random.nextInt(SIZE));
+            copies[i] = new Position(positions[i].getRow(), positions[i].getColumn());
+        }
+    }
+
+    /**
+     * Equals workload compares each position with an equal copy and with the next position
+     */
+    public static class Equals implements Workload {
+        private final Position[] positions = new Position[POSITIONS];
+        private final Position[] copies = new Position[POSITIONS];
+        private int next;
+
+        /**
+         * Constructor for Equals
+         */
+        public Equals() {
+            fill(positions, copies);
+        }
+
+        @Override
+        public long run() {
+            next = (next + 1) & (POSITIONS - 1);
+            final Position position = positions[next];
+            return (position.equals(copies[next]) ? 1 : 0) + (position.equals(copies[(next + 1) & (POSITIONS - 1)]) ? 2 : 0);
+        }
+    }
+
+    /**
+     * HashCode workload computes the hash code of each position
+     */
+    public static class HashCode implements Workload {
+        private final Position[] positions = new Position[POSITIONS];
+        private int next;
+
+        /**
+         * Constructor for HashCode
+         */
+        public HashCode() {
+            fill(positions, new Position[POSITIONS]);
+        }
+
+        @Override
+        public long run() {
+            next = (next + 1) & (POSITIONS - 1);
+            return positions[next].hashCode();
+        }
+    }
+
+    /**
+     * HashSetContains workload looks up equal copies of the positions in a HashSet of the positions
+     */
+    public static class HashSetContains implements Workload {
+        private final Set<Position> set = new HashSet<>();
+        private final Position[] copies = new Position[POSITIONS];
+        private int next;
+
+        /**
+         * Constructor for HashSetContains
+         */
+        public HashSetContains() {
+            final Position[] positions = new Position[POSITIONS];
+            fill(positions, copies);
+            set.addAll(Arrays.asList(positions));
+        }
+
+        @Override
+        public long run() {
+            next = (next + 1) & (POSITIONS - 1);
+            return set.contains(copies[next]) ? 1 : 0;
+        }
+    }
+
+    /**
+     * LargeMapHashSet workload looks up positions in a HashSet holding a million random cells of a 4096x4096 map,
+     * half of the lookups find a cell in the set. The set holds either Position keys or keys hashed by row + column,
+     * the hash Position used before it was packed, which gives only 8191 different hash codes on this map
+     */
+    public static class LargeMapHashSet implements Workload {
+        private static final int MAP_SIZE = 4096;       // rows and columns of the map
+        private static final int CELLS = 1 << 20;       // cells in the set
+
+        private final Set<Object> set = new HashSet<>();
+        private final Object[] probes = new Object[POSITIONS];
+        private int next;
+
+        /**
+         * Constructor for LargeMapHashSet
+         *
+         * @param hash "position" for Position keys, "sum" for keys hashed by row + column
+         */
+        public LargeMapHashSet(String hash) {
+            final boolean sum = "sum".equals(hash);
+            final Random random = new Random(SEED);
+            final Object[] cells = new Object[CELLS];
+            for (int i = 0; i < CELLS; i++) {
+                final int row = random.nextInt(MAP_SIZE);
+                final int column = random.nextInt(MAP_SIZE);
+                cells[i] = sum ? new SumHashKey(row, column) : new Position(row, column);
+                set.add(cells[i]);
+            }
+            for (int i = 0; i < POSITIONS; i++) {
+                // even probes are equal to a cell in the set, odd probes are random cells which are very likely absent
+                final int row;
+                final int column;
+                if (i % 2 == 0) {
+                    final Object cell = cells[random.nextInt(CELLS)];
+                    row = sum ? ((SumHashKey) cell).row : ((Position) cell).getRow();
+                    column = sum ? ((SumHashKey) cell).column : ((Position) cell).getColumn();
+                } else {
+                    row = random.nextInt(MAP_SIZE);
+                    column = random.nextInt(MAP_SIZE);
+                }
+                probes[i] = sum ? new SumHashKey(row, column) : new Position(row, column);
+            }
+        }
+
+        @Override
+        public long run() {
+            next = (next + 1) & (POSITIONS - 1);
+            return set.contains(probes[next]) ? 1 : 0;
+        }
+    }
+
+    /**
+     * SumHashKey class is a row and column key hashed by row + column, as Position was before it was packed
+     */
+    private static final class SumHashKey {
+        private final int row;
+        private final int column;
+
+        /**
+         * Constructor for SumHashKey
+         *
+         * @param row    row number
+         * @param column column number
+         */
+        SumHashKey(int row, int column) {
+            this.row = row;
+            this.column = column;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof SumHashKey other && other.row == row && other.column == column;
+        }
+
+        @Override
+        public int hashCode() {
+            return row + column;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+import benchmarks.Workload;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * SearchWorkload class measures a breadth first flood of a random map from its centre, recording for every cell reached
+ * the move that reached it, as the bot's planner does. The search state is held in one of:
+ * "boxed" HashSet of Position and HashMap of Position to Integer,
+ * "intIntMap" IntIntMap keyed by cell index, as PathFinder uses for grids over its dense limit,
+ * "dense" arrays the size of the map, as PathFinder uses for grids up to its dense limit
+ */
+public class SearchWorkload implements Workload {
+    private static final int MAP_SIZE = 256;        // rows and columns of the map
+    private static final long SEED = 1;             // seed for the map
+    private static final Direction[] DIRECTIONS = {Direction.NORTH, Direction.SOUTH, Direction.WEST, Direction.EAST};
+
+    private final Grid grid = BenchmarkMaps.create(MAP_SIZE, MAP_SIZE, GridType.BYTE, SEED).getGrid();
+    private final String variant;
+    private final IntIntMap cameFromMap = new IntIntMap();
+    private final int[] visitedSearch = new int[MAP_SIZE * MAP_SIZE];
+    private final byte[] cameFrom = new byte[MAP_SIZE * MAP_SIZE];
+    private final int[] queue = new int[MAP_SIZE * MAP_SIZE];
+    private int search;
+
+    /**
+     * Constructor for SearchWorkload
+     *
+     * @param variant how the search state is held: "boxed", "intIntMap" or "dense"
+     */
+    public SearchWorkload(String variant) {
+        this.variant = variant;
+    }
+
+    @Override
+    public long run() {
+        return switch (variant) {
+            case "boxed" -> floodBoxed();
+            case "intIntMap" -> floodIntIntMap();
+            case "dense" -> floodDense();
+            default -> throw new IllegalArgumentException("Unknown variant: " + variant);
+        };
+    }
+
+    /**
+     * Flood with a HashSet of visited positions and a HashMap of the move that reached each position
+     *
+     * @return number of cells reached
+     */
+    private long floodBoxed() {
+        final Set<Position> visited = new HashSet<>();
+        final java.util.Map<Position, Integer> moves = new HashMap<>();
+        final ArrayDeque<Position> positions = new ArrayDeque<>();
+        final Position start = new Position(MAP_SIZE / 2, MAP_SIZE / 2);
+        visited.add(start);
+        positions.add(start);
+        while (!positions.isEmpty()) {
+            final Position position = positions.poll();
+            for (int i = 0; i < DIRECTIONS.length; i++) {
+                final Position next = position.move(DIRECTIONS[i]);
+                if (grid.get(next.getRow(), next.getColumn()) != Tile.WALL && visited.add(next)) {
+                    moves.put(next, i);
+                    positions.add(next);
+                }
+            }
+        }
+        return visited.size() + moves.size();
+    }
+
+    /**
+     * Flood with an IntIntMap of the move that reached each cell index, which also marks it visited
+     *
+     * @return number of cells reached
+     */
+    private long floodIntIntMap() {
+        cameFromMap.clear();
+        int head = 0;
+        int tail = 0;
+        final int start = (MAP_SIZE / 2) * MAP_SIZE + MAP_SIZE / 2;
+        cameFromMap.put(start, -1);
+        queue[tail++] = start;
+        while (head < tail) {
+            final int cell = queue[head++];
+            for (int i = 0; i < DIRECTIONS.length; i++) {
+                final int next = cell + DIRECTIONS[i].getRowStep() * MAP_SIZE + DIRECTIONS[i].getColumnStep();
+                if (grid.get(next / MAP_SIZE, next % MAP_SIZE) != Tile.WALL && !cameFromMap.containsKey(next)) {
+                    cameFromMap.put(next, i);
+                    queue[tail++] = next;
+                }
+            }
+        }
+        return cameFromMap.size() * 2L;
+    }
+
+    /**
+     * Flood with generation stamped arrays the size of the map
+     *
+     * @return number of cells reached
+     */
+    private long floodDense() {
+        search++;
+        int head = 0;
+        int tail = 0;
+        final int start = (MAP_SIZE / 2) * MAP_SIZE + MAP_SIZE / 2;
+        visitedSearch[start] = search;
+        queue[tail++] = start;
+        while (head < tail) {
+            final int cell = queue[head++];
+            for (int i = 0; i < DIRECTIONS.length; i++) {
+                final int next = cell + DIRECTIONS[i].getRowStep() * MAP_SIZE + DIRECTIONS[i].getColumnStep();
+                if (visitedSearch[next] != search && grid.get(next / MAP_SIZE, next % MAP_SIZE) != Tile.WALL) {
+                    visitedSearch[next] = search;
+                    cameFrom[next] = (byte) i;
+                    queue[tail++] = next;
+                }
+            }
+        }
+        return tail * 2L;
+    }
+}
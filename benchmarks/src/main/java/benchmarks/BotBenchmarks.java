@@ -0,0 +1,68 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BotBenchmarks class measures BotPlayer.handleLook and whole bot turns (issueCommand and the processing of the command)
+ * over seeded BOT_TEST games
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BotBenchmarks {
+    /**
+     * HandleLookState class plays the game up to the bot's next LOOK before every call,
+     * handleLook takes microseconds so the per invocation setup does not distort the result
+     */
+    @State(Scope.Thread)
+    public static class HandleLookState {
+        Workload workload;
+
+        @Setup
+        public void setup() {
+            workload = Workload.create("BotWorkloads$HandleLook");
+        }
+
+        @Setup(Level.Invocation)
+        public void prepare() {
+            workload.prepare();
+        }
+    }
+
+    /**
+     * TurnState class holds the game the bot's turns are played in
+     */
+    @State(Scope.Thread)
+    public static class TurnState {
+        Workload workload;
+
+        @Setup
+        public void setup() {
+            workload = Workload.create("BotWorkloads$Turn");
+        }
+    }
+
+    @Benchmark
+    public long handleLook(HandleLookState state) {
+        return state.workload.run();
+    }
+
+    @Benchmark
+    public long turn(TurnState state) {
+        return state.workload.run();
+    }
+}
@@ -0,0 +1,43 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DistanceBenchmarks class compares rebuilding the distance field to the nearest gold after a pickup
+ * with updating it incrementally, each operation picks up one gold and drops it again
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DistanceBenchmarks {
+    @Param({"100", "1000"})
+    public String size;
+    @Param({"rebuild", "incremental"})
+    public String variant;
+    private Workload workload;
+
+    @Setup
+    public void setup() {
+        workload = Workload.create("DistanceWorkload", size, variant);
+    }
+
+    @Benchmark
+    public long pickup() {
+        return workload.run();
+    }
+}
@@ -0,0 +1,44 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GridBenchmarks class compares the memory used by each GridType, run it with -prof gc and read gc.alloc.rate.norm
+ * as the bytes of one grid. A 10000x10000 grid takes about 100 MB as BYTE and 400 MB as TILE_ARRAY, so the fork is
+ * given a heap that holds two of them
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Thread)
+public class GridBenchmarks {
+    @Param({"TILE_ARRAY", "BYTE"})
+    public String gridType;
+    @Param({"100", "1000", "10000"})
+    public String size;
+    private Workload workload;
+
+    @Setup
+    public void setup() {
+        workload = Workload.create("GridWorkload", gridType, size);
+    }
+
+    @Benchmark
+    public long create() {
+        return workload.run();
+    }
+}
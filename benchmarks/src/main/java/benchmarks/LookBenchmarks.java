@@ -0,0 +1,42 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LookBenchmarks class measures how the LOOK radius and view shape change the cost of Map.getLocalMap
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LookBenchmarks {
+    @Param({"SQUARE", "DIAMOND", "CIRCLE"})
+    public String shape;
+    @Param({"1", "2", "3", "5"})
+    public String radius;
+    private Workload workload;
+
+    @Setup
+    public void setup() {
+        workload = Workload.create("LookWorkload", shape, radius);
+    }
+
+    @Benchmark
+    public long look() {
+        return workload.run();
+    }
+}
@@ -0,0 +1,131 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MapBenchmarks class measures loading a text or binary map, Map.getTile, Map.getLocalMap and Map.getRandomStartPosition
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapBenchmarks {
+    /**
+     * LoadState class holds a text map file of the given size
+     */
+    @State(Scope.Thread)
+    public static class LoadState {
+        @Param({"TILE_ARRAY", "BYTE"})
+        public String gridType;
+        @Param({"100", "1000"})
+        public String size;
+        Workload workload;
+
+        @Setup
+        public void setup() {
+            workload = Workload.create("MapWorkloads$Load", gridType, size);
+        }
+    }
+
+    /**
+     * LoadBinaryState class holds a binary map file of the given size, the same map as LoadState
+     */
+    @State(Scope.Thread)
+    public static class LoadBinaryState {
+        @Param({"TILE_ARRAY", "BYTE"})
+        public String gridType;
+        @Param({"100", "1000"})
+        public String size;
+        Workload workload;
+
+        @Setup
+        public void setup() {
+            workload = Workload.create("MapWorkloads$LoadBinary", gridType, size);
+        }
+    }
+
+    /**
+     * GetTileState class holds a map and the positions to read
+     */
+    @State(Scope.Thread)
+    public static class GetTileState {
+        @Param({"TILE_ARRAY", "BYTE"})
+        public String gridType;
+        Workload workload;
+
+        @Setup
+        public void setup() {
+            workload = Workload.create("MapWorkloads$GetTile", gridType);
+        }
+    }
+
+    /**
+     * LocalMapState class holds a map and the players to make the LOOK view for
+     */
+    @State(Scope.Thread)
+    public static class LocalMapState {
+        @Param({"allocating", "buffer"})
+        public String variant;
+        Workload workload;
+
+        @Setup
+        public void setup() {
+            workload = Workload.create("MapWorkloads$LocalMap", variant);
+        }
+    }
+
+    /**
+     * StartPositionState class holds a map that is mostly wall to place players on
+     */
+    @State(Scope.Thread)
+    public static class StartPositionState {
+        @Param({"rejection", "freeCells"})
+        public String variant;
+        Workload workload;
+
+        @Setup
+        public void setup() {
+            workload = Workload.create("MapWorkloads$StartPosition", variant);
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long loadText(LoadState state) {
+        return state.workload.run();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long loadBinary(LoadBinaryState state) {
+        return state.workload.run();
+    }
+
+    @Benchmark
+    public long getTile(GetTileState state) {
+        return state.workload.run();
+    }
+
+    @Benchmark
+    public long getLocalMap(LocalMapState state) {
+        return state.workload.run();
+    }
+
+    @Benchmark
+    public long startPosition(StartPositionState state) {
+        return state.workload.run();
+    }
+}
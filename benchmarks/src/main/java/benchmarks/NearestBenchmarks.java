@@ -0,0 +1,43 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * NearestBenchmarks class compares finding the gold nearest to a position by scanning the map
+ * with Map.findNearest and its spatial index, on maps of millions of cells
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NearestBenchmarks {
+    @Param({"1000", "2000"})
+    public String size;
+    @Param({"scan", "index"})
+    public String variant;
+    private Workload workload;
+
+    @Setup
+    public void setup() {
+        workload = Workload.create("NearestWorkload", size, variant);
+    }
+
+    @Benchmark
+    public long nearestGold() {
+        return workload.run();
+    }
+}
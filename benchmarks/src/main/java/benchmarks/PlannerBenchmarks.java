@@ -0,0 +1,76 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PlannerBenchmarks class compares the PathFinder used by the bot with the greedy planner it replaced on random 5x5
+ * LOOK grids: plan times planning one path, play moves the bot to the destination one planned step a turn and
+ * counts the plays, the plays that reached the destination and the turns they took. JMH sums the counters over the
+ * measurement iterations, so the planner's reach rate is reached / plays and its turns to the goal turns / reached
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PlannerBenchmarks {
+    @Param({"greedy", "pathFinder"})
+    public String variant;
+    private Workload planWorkload;
+    private Workload playWorkload;
+
+    /**
+     * Goals class counts the plays of an iteration, the plays that reached the destination and the turns they took
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Goals {
+        public long plays;
+        public long reached;
+        public long turns;      // turns taken by the plays that reached the destination
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            plays = 0;
+            reached = 0;
+            turns = 0;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        planWorkload = Workload.create("PlannerWorkload", variant, "plan");
+        playWorkload = Workload.create("PlannerWorkload", variant, "play");
+    }
+
+    @Benchmark
+    public long plan() {
+        return planWorkload.run();
+    }
+
+    @Benchmark
+    public long play(Goals goals) {
+        final long turns = playWorkload.run();
+        goals.plays++;
+        if (turns >= 0) {
+            goals.reached++;
+            goals.turns += turns;
+        }
+        return turns;
+    }
+}
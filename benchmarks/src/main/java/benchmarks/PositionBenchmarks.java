@@ -0,0 +1,66 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PositionBenchmarks class measures Position.equals, Position.hashCode and HashSet lookups of positions,
+ * including a HashSet of a large map with Position keys and with keys using the old row + column hash
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PositionBenchmarks {
+    /**
+     * OperationState class holds the positions for an operation on small maps
+     */
+    @State(Scope.Thread)
+    public static class OperationState {
+        @Param({"Equals", "HashCode", "HashSetContains"})
+        public String operation;
+        Workload workload;
+
+        @Setup
+        public void setup() {
+            workload = Workload.create("PositionWorkloads$" + operation);
+        }
+    }
+
+    @Benchmark
+    public long position(OperationState state) {
+        return state.workload.run();
+    }
+
+    /**
+     * LargeMapState class holds a HashSet of a million cells of a 4096x4096 map
+     */
+    @State(Scope.Thread)
+    public static class LargeMapState {
+        @Param({"sum", "position"})
+        public String hash;
+        Workload workload;
+
+        @Setup
+        public void setup() {
+            workload = Workload.create("PositionWorkloads$LargeMapHashSet", hash);
+        }
+    }
+
+    @Benchmark
+    public long largeMapHashSetContains(LargeMapState state) {
+        return state.workload.run();
+    }
+}
@@ -0,0 +1,41 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SearchBenchmarks class compares the search state used by a breadth first flood of a 256x256 map:
+ * boxed HashSet/HashMap of Position, IntIntMap and dense arrays
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SearchBenchmarks {
+    @Param({"boxed", "intIntMap", "dense"})
+    public String variant;
+    private Workload workload;
+
+    @Setup
+    public void setup() {
+        workload = Workload.create("SearchWorkload", variant);
+    }
+
+    @Benchmark
+    public long flood() {
+        return workload.run();
+    }
+}
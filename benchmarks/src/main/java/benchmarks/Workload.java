@@ -0,0 +1,41 @@
+package benchmarks;
+
+import java.util.Arrays;
+
+/**
+ * Workload interface is a single operation on the game that a benchmark measures.
+ * JMH benchmarks must be in a named package but the game classes are in the default package,
+ * which can not be imported from a named package, so each workload is written in the default package
+ * and the benchmarks create it by name
+ */
+public interface Workload {
+    /**
+     * Get the workload ready for the next operation, called by benchmarks that set up every invocation
+     */
+    default void prepare() {
+    }
+
+    /**
+     * Run the operation once
+     *
+     * @return a value computed by the operation, returned to JMH so the operation is not removed by the JIT
+     */
+    long run();
+
+    /**
+     * Create a workload by the name of its class in the default package
+     *
+     * @param className  name of the workload class, eg "MapWorkloads$GetTile"
+     * @param parameters arguments of the workload's constructor, one String for each constructor parameter
+     * @return the workload
+     */
+    static Workload create(String className, String... parameters) {
+        try {
+            final Class<?>[] parameterTypes = new Class<?>[parameters.length];
+            Arrays.fill(parameterTypes, String.class);
+            return (Workload) Class.forName(className).getConstructor(parameterTypes).newInstance((Object[]) parameters);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to create workload " + className, e);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * DistanceFieldTest checks the distances Map keeps up to date incrementally against a DistanceField built from scratch
+ */
+class DistanceFieldTest {
+    private static final int SIZE = 40;
+
+    @Test
+    void incrementalUpdatesMatchRebuild() throws Exception {
+        final Map map = TestMaps.create(SIZE, SIZE, 0.3, 0.02, 1);
+        final Random random = new Random(2);
+        // read the distances once so the map builds its fields and keeps them up to date from then on
+        map.getDistanceToGold(1, 1);
+        map.getDistanceToExit(1, 1);
+        for (int change = 0; change < 500; change++) {
+            final Position position = new Position(1 + random.nextInt(SIZE - 2), 1 + random.nextInt(SIZE - 2));
+            final Tile tile = map.getTile(position);
+            if (tile == Tile.GOLD) {
+                map.setTile(position, Tile.SPACE);
+            } else if (tile == Tile.SPACE) {
+                map.setTile(position, random.nextInt(10) == 0 ? Tile.EXIT : Tile.GOLD);
+            } else {
+                continue;
+            }
+            assertFieldsMatch(map, "after change " + change + " at " + position);
+        }
+    }
+
+    @Test
+    void wallChangesMatchRebuild() throws Exception {
+        final Map map = TestMaps.create(SIZE, SIZE, 0.3, 0.02, 3);
+        map.getDistanceToGold(1, 1);
+        map.setTile(new Position(SIZE / 2 - 1, SIZE / 2), Tile.WALL);
+        assertFieldsMatch(map, "after adding a wall");
+        map.setTile(new Position(SIZE / 2 - 1, SIZE / 2), Tile.SPACE);
+        assertFieldsMatch(map, "after removing a wall");
+    }
+
+    @Test
+    void copyIsUpdatedIndependently() throws Exception {
+        final Map map = TestMaps.create(SIZE, SIZE, 0.3, 0.02, 4);
+        map.getDistanceToGold(1, 1);
+        final Map copy = new Map(map);
+        copy.setTile(new Position(1, 1), Tile.SPACE);
+        assertEquals(0, map.getDistanceToGold(1, 1));
+        assertFieldsMatch(map, "original after the copy changed");
+        assertFieldsMatch(copy, "copy after it changed");
+    }
+
+    /**
+     * Check every distance of the map against fields built from its current tiles
+     *
+     * @param map     map to check
+     * @param context description of the map's state for failure messages
+     */
+    private static void assertFieldsMatch(Map map, String context) {
+        final DistanceField gold = new DistanceField(map.getGrid(), Tile.GOLD);
+        final DistanceField exit = new DistanceField(map.getGrid(), Tile.EXIT);
+        for (int row = 0; row < SIZE; row++) {
+            for (int column = 0; column < SIZE; column++) {
+                assertEquals(gold.getDistance(row, column), map.getDistanceToGold(row, column),
+                        "gold distance at row=" + row + " column=" + column + " " + context);
+                assertEquals(exit.getDistance(row, column), map.getDistanceToExit(row, column),
+                        "exit distance at row=" + row + " column=" + column + " " + context);
+            }
+        }
+    }
+}
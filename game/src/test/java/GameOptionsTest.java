@@ -0,0 +1,41 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * GameOptionsTest checks only the given options are set and that options which can not be used together are rejected
+ */
+class GameOptionsTest {
+
+    @Test
+    void optionsNotGivenAreEmpty() {
+        final GameOptions options = GameOptions.parse(new String[]{"--mode", "T"});
+        assertEquals(Optional.of(GameMode.BOT_TEST), options.getGameMode());
+        assertEquals(Optional.empty(), options.getTraceEnabled());
+        assertEquals(Optional.empty(), options.getMapFile());
+    }
+
+    @Test
+    void moreThanOneGameIsBotTestWithoutTrace() {
+        final GameOptions options = GameOptions.parse(new String[]{"--games=10", "--threads=2"});
+        assertEquals(Optional.of(GameMode.BOT_TEST), options.getGameMode());
+        assertEquals(Optional.of(false), options.getTraceEnabled());
+        assertEquals(2, options.getThreads());
+    }
+
+    @Test
+    void singleGameOptionsAreRejectedForMoreThanOneGame() {
+        assertThrows(IllegalArgumentException.class, () -> GameOptions.parse(new String[]{"--games=10", "--mode=P"}));
+        assertThrows(IllegalArgumentException.class, () -> GameOptions.parse(new String[]{"--games=10", "--trace"}));
+        assertThrows(IllegalArgumentException.class,
+                () -> GameOptions.parse(new String[]{"--games=10", "--record", "game.replay"}));
+    }
+
+    @Test
+    void threadsAreRejectedForASingleGame() {
+        assertThrows(IllegalArgumentException.class, () -> GameOptions.parse(new String[]{"--threads=2"}));
+    }
+}
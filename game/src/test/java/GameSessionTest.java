@@ -0,0 +1,111 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * GameSessionTest plays scripted games with the human player's commands taken from a queue
+ */
+class GameSessionTest {
+
+    @Test
+    void queuedCommandsDriveTheGame() throws Exception {
+        final Map map = TestMaps.create(30, 30, 0.1, 0.02, 1);
+        final CaptureOutputSink out = new CaptureOutputSink();
+        final InputSource input = InputSource.queue(new ArrayDeque<>(List.of("HELLO", "gold", "dance", "QUIT")));
+        final GameSession session = new GameSession(map, GameMode.PLAYER_AND_BOT, false, new SplittableRandom(1), out,
+                input);
+
+        assertEquals(GameOutcome.LOSE, session.play());
+        assertEquals(4, session.getTurn());
+        final String text = out.getText();
+        assertTrue(text.contains("Gold to win: 1"), text);
+        assertTrue(text.contains("Gold owned: 0"), text);
+        assertTrue(text.contains("Invalid command"), text);
+        assertTrue(text.endsWith("LOSE" + System.lineSeparator()), text);
+    }
+
+    @Test
+    void eventsReportEachCommand() throws Exception {
+        // the player starts at the top of the left corridor and the bot at its bottom
+        final List<String> events = playAndRecord(5, "HELLO", "MOVE E", "PICKUP", "MOVE S", "PICKUP", "MOVE S", "QUIT");
+        assertEquals(List.of(
+                "turn 1 P HELLO success row=1 column=1",
+                "turn 1 B HELLO success row=3 column=1",
+                "turn 2 P MOVE fail row=1 column=1",        // into the wall
+                "turn 2 B LOOK success row=3 column=1",
+                "turn 3 P PICKUP fail row=1 column=1",      // no gold on a space
+                "turn 3 B MOVE success row=2 column=1",
+                "turn 4 P MOVE success row=2 column=1",
+                "turn 4 B MOVE success row=1 column=1",
+                "turn 5 P PICKUP success row=2 column=1",
+                "turn 5 B LOOK success row=1 column=1",
+                "turn 6 P MOVE success row=3 column=1",
+                "turn 6 B MOVE success row=2 column=1",
+                "turn 7 P QUIT fail row=3 column=1"),       // a loss, the player is not on the exit
+                events);
+    }
+
+    @Test
+    void eventsReportTheCatch() throws Exception {
+        // the player starts at the bottom of the left corridor and the bot at its top
+        final List<String> events = playAndRecord(1, "HELLO", "MOVE E", "PICKUP", "MOVE S");
+        assertEquals(List.of(
+                "turn 1 P HELLO success row=3 column=1",
+                "turn 1 B HELLO success row=1 column=1",
+                "turn 2 P MOVE fail row=3 column=1",
+                "turn 2 B LOOK success row=1 column=1",
+                "turn 3 P PICKUP fail row=3 column=1",
+                "turn 3 B MOVE success row=2 column=1",
+                "turn 4 P MOVE fail row=3 column=1",
+                "turn 4 B MOVE success row=3 column=1",
+                "turn 4 B CAUGHT success row=3 column=1"),
+                events);
+    }
+
+    @Test
+    void endOfInputQuits() throws Exception {
+        final Map map = TestMaps.create(30, 30, 0.1, 0.02, 1);
+        final GameSession session = new GameSession(map, GameMode.PLAYER_AND_BOT, false, new SplittableRandom(1),
+                OutputSink.discard(), InputSource.queue(new ArrayDeque<>(List.of("LOOK"))));
+
+        assertEquals(GameOutcome.LOSE, session.play());
+        assertEquals(2, session.getTurn());
+    }
+
+    /**
+     * Play a game on a small map with the player's commands taken from a list and record the events as text.
+     * The map has a corridor of a space, a gold and a space down its left side, and an exit walled in on its own
+     *
+     * @param seed          seed for the start positions and the bot
+     * @param humanCommands the human player's commands
+     * @return the events of the game in order, as GameEvent.toString
+     * @throws Exception exception if the map is invalid
+     */
+    private static List<String> playAndRecord(long seed, String... humanCommands) throws Exception {
+        final String[] rows = {"#####", "#.#E#", "#G###", "#.###", "#####"};
+        final Grid grid = GridType.BYTE.create(rows.length, rows[0].length());
+        for (int row = 0; row < rows.length; row++) {
+            final Tile[] tiles = Tile.readRow(rows[row].toCharArray());
+            for (int column = 0; column < tiles.length; column++) {
+                grid.set(row, column, tiles[column]);
+            }
+        }
+        final GameSession session = new GameSession(new Map("Corridor", 1, grid), GameMode.PLAYER_AND_BOT, false,
+                new SplittableRandom(seed), OutputSink.discard(),
+                InputSource.queue(new ArrayDeque<>(List.of(humanCommands))));
+        final List<GameEvent> events = new ArrayList<>();
+        session.addListener(event -> events.add(event.copy()));
+        session.play();
+        final List<String> lines = new ArrayList<>();
+        for (GameEvent event : events) {
+            lines.add(event.toString());
+        }
+        return lines;
+    }
+}
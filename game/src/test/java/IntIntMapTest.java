@@ -0,0 +1,36 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * IntIntMapTest checks IntIntMap against java.util.HashMap over random operations
+ */
+class IntIntMapTest {
+
+    @Test
+    void matchesHashMap() {
+        final IntIntMap map = new IntIntMap();
+        final java.util.Map<Integer, Integer> expected = new HashMap<>();
+        final Random random = new Random(1);
+        for (int operation = 0; operation < 200_000; operation++) {
+            // small keys collide often, 0 and negative keys are included
+            final int key = random.nextInt(4096) - 64;
+            final int value = random.nextInt();
+            switch (random.nextInt(8)) {
+                case 0, 1, 2 -> assertEquals(expected.put(key, value) == null, map.put(key, value), "put " + key);
+                case 3, 4 -> assertEquals(expected.getOrDefault(key, -1), map.get(key, -1), "get " + key);
+                case 5, 6 -> assertEquals(expected.containsKey(key), map.containsKey(key), "containsKey " + key);
+                default -> {
+                    if (random.nextInt(1000) == 0) {
+                        expected.clear();
+                        map.clear();
+                    }
+                }
+            }
+            assertEquals(expected.size(), map.size(), "size after operation " + operation);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * MapRendererTest checks the full map is drawn exactly as the original tile by tile printing drew it
+ */
+class MapRendererTest {
+
+    @Test
+    void frameMatchesTileByTilePrinting() throws Exception {
+        final Map map = TestMaps.create(7, 9, 0.2, 0.1, 1);
+        final Player human = new HumanPlayer(new Position(3, 4), Tile.PLAYER);
+        final Player bot = new HumanPlayer(new Position(1, 2), Tile.BOT);
+        final Player sharing = new HumanPlayer(new Position(3, 4), Tile.BOT);
+        final MapRenderer renderer = new MapRenderer();
+
+        assertRendered(map, renderer, Optional.empty(), Optional.empty());
+        assertRendered(map, renderer, Optional.of(human), Optional.of(bot));
+        // the first player is drawn on top when both share a tile
+        assertRendered(map, renderer, Optional.of(human), Optional.of(sharing));
+    }
+
+    /**
+     * Check a frame drawn by the renderer against the original printing
+     *
+     * @param map      map to draw
+     * @param renderer renderer to draw with
+     * @param player1  optional first player
+     * @param player2  optional second player
+     */
+    private static void assertRendered(Map map, MapRenderer renderer, Optional<Player> player1, Optional<Player> player2) {
+        final CaptureOutputSink actual = new CaptureOutputSink();
+        renderer.render(map, player1, player2, actual);
+        assertEquals(printTileByTile(map, player1, player2), actual.getText());
+    }
+
+    /**
+     * Print the map as Map.printFullMap did before MapRenderer, one print for each tile
+     *
+     * @param map     map to print
+     * @param player1 optional first player, printed over the second
+     * @param player2 optional second player
+     * @return printed text
+     */
+    private static String printTileByTile(Map map, Optional<Player> player1, Optional<Player> player2) {
+        final CaptureOutputSink out = new CaptureOutputSink();
+        out.println("name " + map.getMapName());
+        out.print("win " + map.getGoldRequired());
+        for (int i = 0; i < map.getGrid().getRowSize(); i++) {
+            out.println("");
+            for (int j = 0; j < map.getGrid().getColumnSize(); j++) {
+                final Position position = new Position(i, j);
+                if (player1.isPresent() && player1.get().getPosition().equals(position)) {
+                    out.print(player1.get().getTile().toString());
+                } else if (player2.isPresent() && player2.get().getPosition().equals(position)) {
+                    out.print(player2.get().getTile().toString());
+                } else {
+                    out.print(map.getTile(i, j).toString());
+                }
+            }
+        }
+        out.println("");
+        return out.getText();
+    }
+}
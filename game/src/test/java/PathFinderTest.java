@@ -0,0 +1,63 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * PathFinderTest checks the sparse search used on grids over the dense limit finds the same paths as the dense search
+ */
+class PathFinderTest {
+    private static final int AREA = 64;             // rows and columns of the open area searched
+    private static final int LARGE_ROWS = 1100;     // rows of a grid over the dense limit, with LARGE_COLUMNS
+    private static final int LARGE_COLUMNS = 1000;
+
+    @Test
+    void sparseSearchMatchesDenseSearch() {
+        // the same random area is placed in a small grid and in the corner of a large grid of walls
+        final Grid small = GridType.BYTE.create(AREA, AREA);
+        final Grid large = GridType.BYTE.create(LARGE_ROWS, LARGE_COLUMNS);
+        for (int row = 0; row < LARGE_ROWS; row++) {
+            for (int column = 0; column < LARGE_COLUMNS; column++) {
+                large.set(row, column, Tile.WALL);
+            }
+        }
+        final Random random = new Random(1);
+        for (int row = 0; row < AREA; row++) {
+            for (int column = 0; column < AREA; column++) {
+                final double draw = random.nextDouble();
+                final Tile tile = draw < 0.3 ? Tile.WALL : draw < 0.32 ? Tile.GOLD : Tile.SPACE;
+                small.set(row, column, tile);
+                large.set(row, column, tile);
+            }
+        }
+
+        final PathFinder dense = new PathFinder();
+        final PathFinder sparse = new PathFinder();
+        for (int i = 0; i < 200; i++) {
+            final int startRow = random.nextInt(AREA);
+            final int startColumn = random.nextInt(AREA);
+            final int goalRow = random.nextInt(AREA);
+            final int goalColumn = random.nextInt(AREA);
+            assertSamePath(dense, dense.findPath(small, startRow, startColumn, goalRow, goalColumn),
+                    sparse, sparse.findPath(large, startRow, startColumn, goalRow, goalColumn));
+            assertSamePath(dense, dense.findPathToNearest(small, startRow, startColumn, Tile.GOLD),
+                    sparse, sparse.findPathToNearest(large, startRow, startColumn, Tile.GOLD));
+        }
+    }
+
+    /**
+     * Check two path finders found the same moves
+     *
+     * @param expected      path finder holding the expected path
+     * @param expectedMoves number of moves in the expected path
+     * @param actual        path finder holding the path to check
+     * @param actualMoves   number of moves in the path to check
+     */
+    private static void assertSamePath(PathFinder expected, int expectedMoves, PathFinder actual, int actualMoves) {
+        assertEquals(expectedMoves, actualMoves, "number of moves");
+        for (int i = 0; i < expectedMoves; i++) {
+            assertEquals(expected.getMove(i), actual.getMove(i), "move " + i);
+        }
+    }
+}
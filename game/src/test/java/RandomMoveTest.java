@@ -0,0 +1,71 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * RandomMoveTest checks the bot's random moves are valid and equally likely
+ */
+class RandomMoveTest {
+    private static final int DRAWS = 300_000;
+
+    @Test
+    void validMovesAreEquallyLikely() {
+        // walled to the north only
+        final Tile[][] localMap = view();
+        localMap[1][2] = Tile.WALL;
+        assertEquals(1 << Direction.SOUTH.ordinal() | 1 << Direction.EAST.ordinal() | 1 << Direction.WEST.ordinal(),
+                Map.getValidMoves(localMap, 2, 2));
+
+        final SplittableRandom random = new SplittableRandom(1);
+        final int[] counts = new int[Command.values().length];
+        for (int i = 0; i < DRAWS; i++) {
+            final Optional<Command> move = BotPlayer.getRandomMove(localMap, random);
+            assertTrue(move.isPresent());
+            counts[move.get().ordinal()]++;
+        }
+        assertEquals(0, counts[Command.MOVE_NORTH.ordinal()]);
+        for (Command command : new Command[]{Command.MOVE_SOUTH, Command.MOVE_EAST, Command.MOVE_WEST}) {
+            assertEquals(DRAWS / 3.0, counts[command.ordinal()], DRAWS / 3.0 * 0.02, command.getText());
+        }
+    }
+
+    @Test
+    void cellsOutsideTheViewAreNotValidMoves() {
+        final Tile[][] localMap = view();
+        localMap[2][1] = null;
+        localMap[3][2] = Tile.WALL;
+        assertEquals(1 << Direction.NORTH.ordinal() | 1 << Direction.EAST.ordinal(), Map.getValidMoves(localMap, 2, 2));
+        // at the edge of the view there is nothing to move to beyond it
+        assertEquals(1 << Direction.SOUTH.ordinal() | 1 << Direction.EAST.ordinal(), Map.getValidMoves(localMap, 0, 0));
+    }
+
+    @Test
+    void walledInHasNoMove() {
+        final Tile[][] localMap = view();
+        localMap[1][2] = Tile.WALL;
+        localMap[3][2] = Tile.WALL;
+        localMap[2][1] = Tile.WALL;
+        localMap[2][3] = Tile.WALL;
+        assertEquals(0, Map.getValidMoves(localMap, 2, 2));
+        assertEquals(Optional.empty(), BotPlayer.getRandomMove(localMap, new SplittableRandom(2)));
+    }
+
+    /**
+     * Create a 5x5 view of SPACE with the bot at the centre
+     *
+     * @return the view
+     */
+    private static Tile[][] view() {
+        final Tile[][] localMap = new Tile[5][5];
+        for (Tile[] row : localMap) {
+            Arrays.fill(row, Tile.SPACE);
+        }
+        localMap[2][2] = Tile.BOT;
+        return localMap;
+    }
+}
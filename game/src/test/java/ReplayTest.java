@@ -0,0 +1,73 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * ReplayTest records games, saves and loads them and checks playing them again prints the same game
+ */
+class ReplayTest {
+    private static final long SEED = 7;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void playerAndBotGameReplaysTheSame() throws Exception {
+        roundTrip(GameMode.PLAYER_AND_BOT, List.of("HELLO", "MOVE E", "MOVE E", "LOOK", "dance", "MOVE S", "MOVE S",
+                "PICKUP", "MOVE W", "GOLD", "MOVE N"));
+    }
+
+    @Test
+    void botTestGameReplaysTheSame() throws Exception {
+        roundTrip(GameMode.BOT_TEST, List.of());
+    }
+
+    @Test
+    void runLongerThanTheTurnsIsRejected() throws Exception {
+        final CommandStream stream = new CommandStream();
+        for (int i = 0; i < 3; i++) {
+            stream.add(Command.LOOK);
+        }
+        assertEquals(3, CommandStream.decode(stream.toBytes(), 3).size());
+        assertThrows(IOException.class, () -> CommandStream.decode(stream.toBytes(), 2));
+
+        // a run of 2^37 commands in six bytes
+        final byte[] corrupt = {(byte) (0x80 | Command.LOOK.ordinal()), (byte) 0x80, (byte) 0x80, (byte) 0x80,
+                (byte) 0x80, 0x40};
+        assertThrows(IOException.class, () -> CommandStream.decode(corrupt, Simulation.DEFAULT_MAX_MOVES));
+    }
+
+    /**
+     * Play a game, save and load its replay, play the replay on a fresh copy of the map and compare the output
+     *
+     * @param gameMode      mode of the game
+     * @param humanCommands the human player's commands, the end of them quits
+     * @throws Exception exception if the replay can not be saved, loaded or played
+     */
+    private void roundTrip(GameMode gameMode, List<String> humanCommands) throws Exception {
+        final CaptureOutputSink recorded = new CaptureOutputSink();
+        final Map map = TestMaps.create(30, 30, 0.1, 0.05, SEED);
+        final GameSession session = new GameSession(map, gameMode, false, new SplittableRandom(SEED), recorded,
+                InputSource.queue(new ArrayDeque<>(humanCommands)));
+        final ReplayRecorder recorder = new ReplayRecorder(SEED, map, gameMode);
+        session.setRecorder(recorder);
+        session.play();
+        final String filename = directory.resolve("game.replay").toString();
+        recorder.finish(session).save(filename);
+
+        final Replay replay = Replay.load(filename);
+        final CaptureOutputSink replayed = new CaptureOutputSink();
+        final Replay result = ReplayPlayer.play(replay, TestMaps.create(30, 30, 0.1, 0.05, SEED), replayed);
+        assertNull(replay.findDifference(result));
+        assertEquals(recorded.getText(), replayed.getText());
+    }
+}
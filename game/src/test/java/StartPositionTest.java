@@ -0,0 +1,120 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * StartPositionTest checks players are placed on free cells uniformly and never on the other player
+ */
+class StartPositionTest {
+    private static final int COLUMNS = 12;
+    private static final int DRAWS = 200_000;
+
+    @Test
+    void startPositionsAreUniformOverFreeCells() throws Exception {
+        // a corridor of 8 spaces and an exit, with gold that can not be started on
+        final Map map = corridor();
+        final SplittableRandom random = new SplittableRandom(1);
+        final int[] counts = new int[COLUMNS];
+        for (int i = 0; i < DRAWS; i++) {
+            final Position position = map.getRandomStartPosition(Optional.empty(), random);
+            assertEquals(1, position.getRow());
+            final Tile tile = map.getTile(position);
+            assertTrue(tile == Tile.SPACE || tile == Tile.EXIT, "started on " + tile);
+            counts[position.getColumn()]++;
+        }
+        // each of the 9 free cells is expected DRAWS / 9 times, allow 5% either way
+        for (int column = 2; column < COLUMNS - 1; column++) {
+            assertEquals(DRAWS / 9.0, counts[column], DRAWS / 9.0 * 0.05, "starts at column " + column);
+        }
+    }
+
+    @Test
+    void startPositionAvoidsOtherPlayer() throws Exception {
+        final Map map = corridor();
+        final SplittableRandom random = new SplittableRandom(2);
+        final Position other = new Position(1, 5);
+        for (int i = 0; i < 10_000; i++) {
+            assertNotEquals(other, map.getRandomStartPosition(Optional.of(other), random));
+        }
+    }
+
+    @Test
+    void startPositionFollowsTileChanges() throws Exception {
+        final Map map = corridor();
+        final SplittableRandom random = new SplittableRandom(3);
+        // fill every free cell but two, then free the gold cell
+        for (int column = 2; column < COLUMNS - 3; column++) {
+            map.setTile(new Position(1, column), Tile.GOLD);
+        }
+        map.setTile(new Position(1, 1), Tile.SPACE);
+        final int[] counts = new int[COLUMNS];
+        for (int i = 0; i < 3_000; i++) {
+            counts[map.getRandomStartPosition(Optional.empty(), random).getColumn()]++;
+        }
+        assertEquals(3_000, counts[1] + counts[COLUMNS - 3] + counts[COLUMNS - 2]);
+        assertTrue(counts[1] > 0 && counts[COLUMNS - 3] > 0 && counts[COLUMNS - 2] > 0);
+    }
+
+    @Test
+    void copiesShareStartPositionsUntilTheyChange() throws Exception {
+        final Map map = corridor();
+        for (int column = 2; column < COLUMNS - 2; column++) {
+            map.setTile(new Position(1, column), Tile.GOLD);
+        }
+        map.prepareStartPositions();
+        // freeing a cell grows the list, so it has room for more when it is shared
+        map.setTile(new Position(1, 1), Tile.SPACE);
+        final Map copy = new Map(map);
+        // then both maps free a different cell
+        map.setTile(new Position(1, 3), Tile.SPACE);
+        copy.setTile(new Position(1, 2), Tile.SPACE);
+        final SplittableRandom random = new SplittableRandom(5);
+        final int[] counts = new int[COLUMNS];
+        final int[] copyCounts = new int[COLUMNS];
+        for (int i = 0; i < 3_000; i++) {
+            counts[map.getRandomStartPosition(Optional.empty(), random).getColumn()]++;
+            copyCounts[copy.getRandomStartPosition(Optional.empty(), random).getColumn()]++;
+        }
+        assertEquals(3_000, counts[1] + counts[3] + counts[COLUMNS - 2]);
+        assertTrue(counts[1] > 0 && counts[3] > 0 && counts[COLUMNS - 2] > 0);
+        assertEquals(3_000, copyCounts[1] + copyCounts[2] + copyCounts[COLUMNS - 2]);
+        assertTrue(copyCounts[1] > 0 && copyCounts[2] > 0 && copyCounts[COLUMNS - 2] > 0);
+    }
+
+    @Test
+    void noFreeCellThrows() throws Exception {
+        final Map map = corridor();
+        final SplittableRandom random = new SplittableRandom(4);
+        for (int column = 2; column < COLUMNS - 2; column++) {
+            map.setTile(new Position(1, column), Tile.GOLD);
+        }
+        // only the exit is free, so it can not be used when the other player is on it
+        final Position exit = new Position(1, COLUMNS - 2);
+        assertEquals(exit, map.getRandomStartPosition(Optional.empty(), random));
+        assertThrows(IllegalStateException.class, () -> map.getRandomStartPosition(Optional.of(exit), random));
+    }
+
+    /**
+     * Create a map that is one corridor: GOLD, eight SPACEs and an EXIT surrounded by walls
+     *
+     * @return the map
+     * @throws Exception exception if the map is invalid
+     */
+    private static Map corridor() throws Exception {
+        final Grid grid = GridType.BYTE.create(3, COLUMNS);
+        for (int row = 0; row < 3; row++) {
+            for (int column = 0; column < COLUMNS; column++) {
+                grid.set(row, column, row == 1 && column > 0 && column < COLUMNS - 1 ? Tile.SPACE : Tile.WALL);
+            }
+        }
+        grid.set(1, 1, Tile.GOLD);
+        grid.set(1, COLUMNS - 2, Tile.EXIT);
+        return new Map("Corridor", 1, grid);
+    }
+}
@@ -0,0 +1,40 @@
+import java.util.Random;
+
+/**
+ * TestMaps class creates random maps for the tests so they do not depend on map files
+ */
+class TestMaps {
+    /**
+     * Create a random map surrounded by walls with an exit in the middle and gold in the top left corner.
+     * Inner cells are walls, gold or space at random, so some open cells may be cut off from the others
+     *
+     * @param rowSize         number of rows, at least 3
+     * @param columnSize      number of columns, at least 3
+     * @param wallProbability probability of an inner cell being a wall
+     * @param goldProbability probability of an inner cell being gold
+     * @param seed            seed for the random tiles, the same seed creates the same map
+     * @return the map, one gold is required to win
+     * @throws Exception exception if the map is invalid, eg too small to hold two spaces
+     */
+    static Map create(int rowSize, int columnSize, double wallProbability, double goldProbability, long seed)
+            throws Exception {
+        final Random random = new Random(seed);
+        final Grid grid = GridType.BYTE.create(rowSize, columnSize);
+        for (int i = 0; i < rowSize; i++) {
+            for (int j = 0; j < columnSize; j++) {
+                final boolean border = i == 0 || j == 0 || i == rowSize - 1 || j == columnSize - 1;
+                final double draw = random.nextDouble();
+                if (border || draw < wallProbability) {
+                    grid.set(i, j, Tile.WALL);
+                } else if (draw < wallProbability + goldProbability) {
+                    grid.set(i, j, Tile.GOLD);
+                } else {
+                    grid.set(i, j, Tile.SPACE);
+                }
+            }
+        }
+        grid.set(rowSize / 2, columnSize / 2, Tile.EXIT);
+        grid.set(1, 1, Tile.GOLD);
+        return new Map("Test " + rowSize + "x" + columnSize, 1, grid);
+    }
+}
@@ -0,0 +1,68 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * TileCountTest checks the tile counts Map keeps through setTile against a count of the grid
+ */
+class TileCountTest {
+    private static final int SIZE = 20;
+    private static final int STEPS = 2000;
+    private static final Tile[] MAP_TILES = {Tile.EXIT, Tile.GOLD, Tile.SPACE, Tile.WALL};
+
+    @Test
+    void countsFollowTileChangesOnAMapAndItsCopy() throws Exception {
+        final Map map = TestMaps.create(SIZE, SIZE, 0.2, 0.05, 1);
+        final Map copy = new Map(map);
+        final Random random = new Random(1);
+        assertCounts(map);
+        assertCounts(copy);
+        for (int step = 0; step < STEPS; step++) {
+            final Map changed = random.nextBoolean() ? map : copy;
+            final Position position = new Position(1 + random.nextInt(SIZE - 2), 1 + random.nextInt(SIZE - 2));
+            final Tile tile = changed.getTile(position);
+            if (tile == Tile.GOLD) {
+                // pickup
+                changed.setTile(position, Tile.SPACE);
+            } else if (tile == Tile.SPACE && random.nextBoolean()) {
+                // drop
+                changed.setTile(position, Tile.GOLD);
+            } else {
+                // wall edits and any other change
+                changed.setTile(position, MAP_TILES[random.nextInt(MAP_TILES.length)]);
+            }
+            assertCounts(map);
+            assertCounts(copy);
+        }
+    }
+
+    @Test
+    void winIsReachableOnlyWithEnoughGoldLeft() throws Exception {
+        final Map map = TestMaps.create(SIZE, SIZE, 0.2, 0, 1);
+        // the only gold is at (1, 1) and one is required
+        assertTrue(map.isWinReachable(0));
+        map.setTile(new Position(1, 1), Tile.SPACE);
+        assertFalse(map.isWinReachable(0));
+        assertTrue(map.isWinReachable(1));
+        map.setTile(new Position(1, 1), Tile.GOLD);
+        assertTrue(map.isWinReachable(0));
+    }
+
+    /**
+     * Check every tile count of a map equals a count of its grid
+     *
+     * @param map map to check
+     */
+    private static void assertCounts(Map map) {
+        final int[] expected = map.getGrid().countTiles();
+        final int[] actual = new int[expected.length];
+        for (Tile tile : Tile.values()) {
+            actual[tile.ordinal()] = map.getTileCount(tile);
+        }
+        assertArrayEquals(expected, actual);
+    }
+}
@@ -0,0 +1,70 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * TileIndexTest checks the nearest cells found by the index against a scan of the whole map
+ */
+class TileIndexTest {
+    private static final int NEAREST = 5;   // number of nearest cells asked for
+
+    @Test
+    void nearestMatchesScan() throws Exception {
+        final Random random = new Random(1);
+        for (int mapNumber = 0; mapNumber < 50; mapNumber++) {
+            final int rowSize = 3 + random.nextInt(120);
+            final int columnSize = 3 + random.nextInt(120);
+            final Map map = TestMaps.create(rowSize, columnSize, 0.2, random.nextDouble() * 0.05, mapNumber);
+            for (int query = 0; query < 40; query++) {
+                // pick up or drop gold between queries so the index is searched after updates too
+                final Position changed = new Position(1 + random.nextInt(rowSize - 2), 1 + random.nextInt(columnSize - 2));
+                if (map.getTile(changed) == Tile.GOLD && map.getTileCount(Tile.GOLD) > 1) {
+                    map.setTile(changed, Tile.SPACE);
+                } else if (map.getTile(changed) == Tile.SPACE) {
+                    map.setTile(changed, Tile.GOLD);
+                }
+                // positions outside the map are searched from too
+                final int row = random.nextInt(rowSize + 20) - 10;
+                final int column = random.nextInt(columnSize + 20) - 10;
+                for (Tile tile : new Tile[]{Tile.GOLD, Tile.EXIT}) {
+                    final long[] nearest = new long[NEAREST];
+                    final int found = map.findNearest(tile, row, column, nearest);
+                    final List<Long> expected = scan(map, tile, row, column);
+                    assertEquals(Math.min(NEAREST, expected.size()), found, "number found");
+                    for (int i = 0; i < found; i++) {
+                        assertEquals(expected.get(i), nearest[i], "nearest " + tile + " " + i + " from row=" + row
+                                + " column=" + column + " on map " + mapNumber);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Find every cell holding a tile by scanning the map, nearest first with ties broken by packed position
+     *
+     * @param map    map to scan
+     * @param tile   tile to find
+     * @param row    row searched from
+     * @param column column searched from
+     * @return packed positions of the cells in order
+     */
+    private static List<Long> scan(Map map, Tile tile, int row, int column) {
+        final List<Long> cells = new ArrayList<>();
+        for (int i = 0; i < map.getGrid().getRowSize(); i++) {
+            for (int j = 0; j < map.getGrid().getColumnSize(); j++) {
+                if (map.getTile(i, j) == tile) {
+                    cells.add(Position.pack(i, j));
+                }
+            }
+        }
+        cells.sort(Comparator.<Long>comparingInt(packed -> Math.abs(Position.rowOf(packed) - row)
+                + Math.abs(Position.columnOf(packed) - column)).thenComparing(Comparator.naturalOrder()));
+        return cells;
+    }
+}